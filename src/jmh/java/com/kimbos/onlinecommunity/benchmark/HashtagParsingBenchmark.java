@@ -0,0 +1,76 @@
+package com.kimbos.onlinecommunity.benchmark;
+
+import com.kimbos.onlinecommunity.utils.HashtagScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hashtag parsing of a 10000 character post: the former regular expression parser against {@link HashtagScanner}.
+ * The gc profiler, enabled in the jmh block of build.gradle, reports the allocation rate per operation.
+ *
+ * <pre>./gradlew jmhJar &amp;&amp; java -jar build/libs/online-community-v1.0.0-jmh.jar HashtagParsingBenchmark -prof gc</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashtagParsingBenchmark {
+
+    private static final int POST_LENGTH = 10_000;
+    private static final String[] ENGLISH_WORDS = {
+            "spring", "boot", "the", "query", "index", "and", "performance", "of", "a", "java", "page", "cache"
+    };
+    private static final String[] KOREAN_WORDS = {
+            "스프링", "게시판을", "만들었습니다", "성능", "개선", "방법은", "자바", "검색", "인덱스를", "사용해서", "빠르게"
+    };
+
+    @Param({"KOREAN", "ENGLISH"})
+    private Language language;
+
+    private String post;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] words = language == Language.KOREAN ? KOREAN_WORDS : ENGLISH_WORDS;
+
+        StringBuilder text = new StringBuilder(POST_LENGTH + 32);
+        while (text.length() < POST_LENGTH) {
+            // Roughly one word in twenty is a hashtag, and sentences end with punctuation
+            if (random.nextInt(20) == 0) {
+                text.append('#');
+            }
+            text.append(words[random.nextInt(words.length)]);
+            text.append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+        post = text.substring(0, POST_LENGTH);
+    }
+
+    @Benchmark
+    public Set<String> regex() {
+        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
+        Matcher matcher = pattern.matcher(post.strip());
+        Set<String> result = new HashSet<>();
+
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+
+        return Set.copyOf(result);
+    }
+
+    @Benchmark
+    public Set<String> scanner() {
+        return HashtagScanner.scan(post);
+    }
+
+    public enum Language { KOREAN, ENGLISH }
+}
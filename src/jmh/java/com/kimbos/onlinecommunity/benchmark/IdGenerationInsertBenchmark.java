@@ -0,0 +1,105 @@
+package com.kimbos.onlinecommunity.benchmark;
+
+import com.kimbos.onlinecommunity.utils.Snowflake;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting 1000 hashtag rows the way Hibernate does it for each id strategy, against an in-memory H2 database.
+ * {@code identity} is what {@code GenerationType.IDENTITY} forces: one statement per row, reading the generated key back.
+ * {@code snowflakeBatch} assigns the ids first, so the rows go in JDBC batches of {@code hibernate.jdbc.batch_size}.
+ * An in-memory database has no network round trip, so the gap against a real server is larger than measured here.
+ *
+ * <pre>./gradlew jmhJar &amp;&amp; java -jar build/libs/online-community-v1.0.0-jmh.jar IdGenerationInsertBenchmark</pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private final Snowflake snowflake = new Snowflake(1);
+    private Connection connection;
+    private long round;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, ClassNotFoundException {
+        // The shaded jar keeps only one java.sql.Driver service file, so the driver is registered by hand
+        Class.forName("org.h2.Driver");
+        connection = DriverManager.getConnection("jdbc:h2:mem:insert;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table identity_hashtag (id bigint generated by default as identity primary key, hashtag_name varchar(255) not null)");
+            statement.execute("create table snowflake_hashtag (id bigint primary key, hashtag_name varchar(255) not null)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table identity_hashtag");
+            statement.execute("truncate table snowflake_hashtag");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into identity_hashtag (hashtag_name) values (?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setString(1, hashtagName(i));
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long snowflakeBatch() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into snowflake_hashtag (id, hashtag_name) values (?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                lastId = snowflake.nextId();
+                insert.setLong(1, lastId);
+                insert.setString(2, hashtagName(i));
+                insert.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        return lastId;
+    }
+
+    private String hashtagName(int i) {
+        return "tag" + round++ + "_" + i;
+    }
+}
@@ -0,0 +1,92 @@
+package com.kimbos.onlinecommunity.benchmark;
+
+import com.kimbos.onlinecommunity.service.search.InvertedIndex;
+import com.kimbos.onlinecommunity.service.search.NgramTokenizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Korean substring search over a synthetic corpus of article titles.
+ * {@code sequentialScan} is what {@code LIKE '%keyword%'} does: it looks at every row.
+ * {@code indexedSearch} intersects the n-gram postings of the keyword and keeps the first page of ranked hits,
+ * as the article list does.
+ *
+ * <pre>./gradlew jmhJar &amp;&amp; java -jar build/libs/online-community-v1.0.0-jmh.jar KoreanSearchBenchmark</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class KoreanSearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"1000000"})
+    private int corpusSize;
+
+    @Param({"RARE", "COMMON"})
+    private KeywordFrequency keywordFrequency;
+
+    private String[] titles;
+    private InvertedIndex index;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            vocabulary[i] = randomHangulWord(random, 2 + random.nextInt(3));
+        }
+
+        titles = new String[corpusSize];
+        index = new InvertedIndex(new NgramTokenizer());
+        for (int docId = 0; docId < corpusSize; docId++) {
+            StringBuilder title = new StringBuilder();
+            int words = 4 + random.nextInt(5);
+            for (int w = 0; w < words; w++) {
+                // Zipf-like skew: low vocabulary indexes are picked much more often
+                int pick = (int) (VOCABULARY_SIZE * Math.pow(random.nextDouble(), 3));
+                title.append(vocabulary[pick]).append(' ');
+            }
+            titles[docId] = title.toString();
+            index.add(docId, titles[docId]);
+        }
+
+        keyword = switch (keywordFrequency) {
+            case RARE -> vocabulary[VOCABULARY_SIZE - 1];
+            case COMMON -> vocabulary[0];
+        };
+    }
+
+    @Benchmark
+    public int sequentialScan() {
+        int matches = 0;
+        for (String title : titles) {
+            if (title.contains(keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int indexedSearch() {
+        return index.search(keyword, 0, PAGE_SIZE).totalHits();
+    }
+
+    private static String randomHangulWord(SplittableRandom random, int length) {
+        char[] syllables = new char[length];
+        for (int i = 0; i < length; i++) {
+            syllables[i] = (char) random.nextInt('가', '힣' + 1);
+        }
+        return new String(syllables);
+    }
+
+    public enum KeywordFrequency { RARE, COMMON }
+}
@@ -0,0 +1,129 @@
+package com.kimbos.onlinecommunity.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache kept in local, size-bounded Caffeine caches, one per region.
+ * Each region holds at most its configured number of entries; past that, Caffeine evicts by W-TinyLFU, which weighs
+ * how often an entry is used as well as how recently.
+ * Hit, miss and eviction counts of every region are published as {@code cache.*} meters tagged with the region name.
+ * <p>
+ * The cache is local to the node: rows changed by another node, or by plain JDBC, are not evicted here.
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate implements MeterBinder {
+
+    private final long defaultMaximumSize;
+    private final Map<String, Long> maximumSizes;
+    private final Map<String, Cache<Object, Object>> regions = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public CaffeineRegionFactory(long defaultMaximumSize, Map<String, Long> maximumSizes) {
+        this.defaultMaximumSize = defaultMaximumSize;
+        this.maximumSizes = Map.copyOf(maximumSizes);
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+        regions.forEach((regionName, cache) -> CaffeineCacheMetrics.monitor(registry, cache, regionName));
+    }
+
+    public Map<String, Cache<Object, Object>> getRegions() {
+        return Map.copyOf(regions);
+    }
+
+    // Raw, as declared by RegionFactoryTemplate
+    @SuppressWarnings("rawtypes")
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(Cache::invalidateAll);
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext
+    ) {
+        return new CaffeineStorageAccess(region(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(region(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(region(regionName));
+    }
+
+    private synchronized Cache<Object, Object> region(String regionName) {
+        return regions.computeIfAbsent(regionName, name -> {
+            Cache<Object, Object> cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSizes.getOrDefault(name, defaultMaximumSize))
+                    .recordStats()
+                    .build();
+            if (meterRegistry != null) {
+                CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+            }
+            return cache;
+        });
+    }
+
+
+    private record CaffeineStorageAccess(Cache<Object, Object> cache) implements DomainDataStorageAccess {
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            if (value == null) {
+                cache.invalidate(key);
+            } else {
+                cache.put(key, value);
+            }
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
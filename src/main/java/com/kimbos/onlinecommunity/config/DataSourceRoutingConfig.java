@@ -0,0 +1,137 @@
+package com.kimbos.onlinecommunity.config;
+
+import com.kimbos.onlinecommunity.datasource.ReplicaLagMonitor;
+import com.kimbos.onlinecommunity.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read/write splitting, only active once {@code community.datasource.replicas} lists at least one replica.
+ * {@code spring.datasource} stays the primary; read-only transactions go to an available replica.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "community.datasource.replicas[0]", name = "url")
+@Configuration
+public class DataSourceRoutingConfig {
+
+    private final ReplicaProperties replicaProperties;
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties, Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaProperties.Replica> replicaList = replicaProperties.getReplicas();
+        for (int i = 0; i < replicaList.size(); i++) {
+            ReplicaProperties.Replica replica = replicaList.get(i);
+            String name = Objects.requireNonNullElse(replica.getName(), "replica-" + i);
+            HikariDataSource replicaDataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(Objects.requireNonNullElse(replica.getUsername(), dataSourceProperties.determineUsername()))
+                    .password(Objects.requireNonNullElse(replica.getPassword(), dataSourceProperties.determinePassword()))
+                    .build();
+            replicaDataSource.setPoolName(name);
+            replicaDataSource.setReadOnly(true);
+            replicas.put(name, replicaDataSource);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getSelection());
+    }
+
+    /**
+     * The data source everything else uses. The lazy proxy holds off the routing decision until the first statement,
+     * when the read-only flag of the transaction is known.
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, replicaProperties.getMaxLag());
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("community.datasource")
+    public static class ReplicaProperties {
+        /**
+         * Replicas that serve read-only transactions
+         */
+        private final List<Replica> replicas;
+        /**
+         * How a replica is picked among the available ones
+         */
+        private final ReplicaRoutingDataSource.Selection selection;
+        /**
+         * How far a replica may fall behind the primary before reads stop going to it
+         */
+        private final Duration maxLag;
+        /**
+         * How often the heartbeat is written and replica lag is checked
+         */
+        private final Duration lagCheckInterval;
+
+        public ReplicaProperties(
+                @DefaultValue List<Replica> replicas,
+                @DefaultValue("round-robin") ReplicaRoutingDataSource.Selection selection,
+                @DefaultValue("PT5S") Duration maxLag,
+                @DefaultValue("PT1S") Duration lagCheckInterval
+        ) {
+            this.replicas = replicas;
+            this.selection = selection;
+            this.maxLag = maxLag;
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        @Getter
+        public static class Replica {
+            /**
+             * Pool name of the replica, {@code replica-<index>} by default
+             */
+            private final String name;
+            private final String url;
+            /**
+             * Login of the replica, the primary's by default
+             */
+            private final String username;
+            private final String password;
+
+            public Replica(String name, String url, String username, String password) {
+                this.name = name;
+                this.url = url;
+                this.username = username;
+                this.password = password;
+            }
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.kimbos.onlinecommunity.config;
 
 import com.kimbos.onlinecommunity.dto.security.CommunityPrincipal;
+import lombok.Getter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -9,6 +15,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.Authentication;
 
+import java.util.Map;
 import java.util.Optional;
 
 @EnableJpaAuditing
@@ -24,4 +31,43 @@ public class JpaConfig {
                 .map(CommunityPrincipal.class::cast)
                 .map(CommunityPrincipal::getUsername);
     }
+
+    @Bean
+    public CaffeineRegionFactory caffeineRegionFactory(SecondLevelCacheProperties secondLevelCacheProperties) {
+        return new CaffeineRegionFactory(secondLevelCacheProperties.getMaximumSize(), secondLevelCacheProperties.getRegions());
+    }
+
+    /**
+     * Second-level cache for the entities and collections marked {@code @Cache}: authors, hashtags and article hashtags.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CaffeineRegionFactory caffeineRegionFactory) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, caffeineRegionFactory);
+        };
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("community.second-level-cache")
+    public static class SecondLevelCacheProperties {
+        /**
+         * How many entries a region keeps unless it is listed in regions
+         */
+        private final long maximumSize;
+        /**
+         * How many entries a region keeps, by region name
+         */
+        private final Map<String, Long> regions;
+
+        public SecondLevelCacheProperties(
+                @DefaultValue("10000") long maximumSize,
+                @DefaultValue Map<String, Long> regions
+        ) {
+            this.maximumSize = maximumSize;
+            this.regions = regions;
+        }
+    }
 }
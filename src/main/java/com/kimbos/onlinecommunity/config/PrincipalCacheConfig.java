@@ -0,0 +1,43 @@
+package com.kimbos.onlinecommunity.config;
+
+import com.kimbos.onlinecommunity.service.PrincipalCache;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PrincipalCacheConfig {
+
+    @Bean
+    public PrincipalCache principalCache(PrincipalCacheProperties principalCacheProperties) {
+        return new PrincipalCache(principalCacheProperties.getMaximumSize(), principalCacheProperties.getTimeToLive());
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("community.principal-cache")
+    public static class PrincipalCacheProperties {
+        /**
+         * How many accounts are kept
+         */
+        private final long maximumSize;
+        /**
+         * How long an account is served after it was loaded, which bounds staleness across nodes
+         */
+        private final Duration timeToLive;
+
+        public PrincipalCacheProperties(
+                @DefaultValue("10000") long maximumSize,
+                @DefaultValue("PT30S") Duration timeToLive
+        ) {
+            this.maximumSize = maximumSize;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
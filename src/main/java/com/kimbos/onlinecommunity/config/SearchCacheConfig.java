@@ -0,0 +1,43 @@
+package com.kimbos.onlinecommunity.config;
+
+import com.kimbos.onlinecommunity.service.search.ArticleSearchCache;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class SearchCacheConfig {
+
+    @Bean
+    public ArticleSearchCache articleSearchCache(SearchCacheProperties searchCacheProperties) {
+        return new ArticleSearchCache(searchCacheProperties.getMaximumSize(), searchCacheProperties.getTimeToLive());
+    }
+
+
+    @Getter
+    @ConstructorBinding
+    @ConfigurationProperties("community.search-cache")
+    public static class SearchCacheProperties {
+        /**
+         * How many search result pages are kept
+         */
+        private final long maximumSize;
+        /**
+         * How long a search result page is served after it was loaded
+         */
+        private final Duration timeToLive;
+
+        public SearchCacheProperties(
+                @DefaultValue("10000") long maximumSize,
+                @DefaultValue("PT1M") Duration timeToLive
+        ) {
+            this.maximumSize = maximumSize;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.kimbos.onlinecommunity.config;
 
 import com.kimbos.onlinecommunity.dto.UserAccountDto;
 import com.kimbos.onlinecommunity.dto.security.CommunityPrincipal;
+import com.kimbos.onlinecommunity.dto.security.CommunityPrincipal.RoleType;
 import com.kimbos.onlinecommunity.dto.security.KakaoOAuth2Response;
 import com.kimbos.onlinecommunity.repository.UserAccountRepository;
 import com.kimbos.onlinecommunity.service.UserAccountService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +22,8 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.springframework.security.config.Customizer.withDefaults;
@@ -40,9 +44,14 @@ public class SecurityConfig {
                                 HttpMethod.GET,
                                 "/",
                                 "/articles",
-                                "/articles/search-hashtag"
+                                "/articles/search-hashtag",
+                                "/articles/hashtags",
+                                "/articles/suggest/**"
                         ).permitAll()
+                        .mvcMatchers("/admin/**").hasRole(RoleType.ADMIN.name())
                         .anyRequest().authenticated())
+                // Import clients post raw NDJSON or CSV bodies, not forms carrying a CSRF token
+                .csrf(csrf -> csrf.ignoringAntMatchers("/admin/import/**"))
                 .formLogin(withDefaults())
                 .logout(logout -> logout.logoutSuccessUrl("/"))
                 .oauth2Login(oAuth -> oAuth
@@ -55,17 +64,21 @@ public class SecurityConfig {
 
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountService userAccountService) {
+    public UserDetailsService userDetailsService(
+            UserAccountService userAccountService,
+            @Value("${community.admin-user-ids:}") List<String> adminUserIds
+    ) {
         return  username -> userAccountService
                 .searchUser(username)
-                .map(CommunityPrincipal::from)
+                .map(dto -> principalOf(dto, adminUserIds))
                 .orElseThrow(() -> new UsernameNotFoundException("Cannot find user - username: " + username));
     }
 
     @Bean
     public OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService(
             UserAccountService userAccountService,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            @Value("${community.admin-user-ids:}") List<String> adminUserIds
     ) {
         final DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
 
@@ -79,16 +92,17 @@ public class SecurityConfig {
             String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
 
             return userAccountService.searchUser(username)
-                    .map(CommunityPrincipal::from)
+                    .map(dto -> principalOf(dto, adminUserIds))
                     .orElseGet(() ->
-                            CommunityPrincipal.from(
+                            principalOf(
                                     userAccountService.saveUser(
                                             username,
                                             dummyPassword,
                                             kakaoResponse.email(),
                                             kakaoResponse.nickname(),
                                             null
-                                    )
+                                    ),
+                                    adminUserIds
                             )
                     );
         };
@@ -98,4 +112,10 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
+
+    private static CommunityPrincipal principalOf(UserAccountDto dto, List<String> adminUserIds) {
+        return adminUserIds.contains(dto.userId())
+                ? CommunityPrincipal.from(dto, Set.of(RoleType.USER, RoleType.ADMIN))
+                : CommunityPrincipal.from(dto);
+    }
 }
@@ -2,23 +2,40 @@ package com.kimbos.onlinecommunity.controller;
 
 import com.kimbos.onlinecommunity.domain.enums.FormStatus;
 import com.kimbos.onlinecommunity.domain.enums.SearchType;
+import com.kimbos.onlinecommunity.domain.enums.TrendWindow;
+import com.kimbos.onlinecommunity.dto.ArticleCursor;
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.ArticleDto;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
 import com.kimbos.onlinecommunity.dto.request.ArticleRequest;
 import com.kimbos.onlinecommunity.dto.response.ArticleResponse;
-import com.kimbos.onlinecommunity.dto.response.ArticleWithCommentsResponse;
+import com.kimbos.onlinecommunity.dto.response.CommentResponse;
+import com.kimbos.onlinecommunity.dto.response.HashtagDirectoryResponse;
+import com.kimbos.onlinecommunity.dto.response.SuggestionsResponse;
+import com.kimbos.onlinecommunity.dto.response.UniqueReadersResponse;
 import com.kimbos.onlinecommunity.dto.UserAccountDto;
 import com.kimbos.onlinecommunity.dto.security.CommunityPrincipal;
+import com.kimbos.onlinecommunity.service.ArticleReaderCounter;
 import com.kimbos.onlinecommunity.service.ArticleService;
+import com.kimbos.onlinecommunity.service.ArticleViewCounter;
+import com.kimbos.onlinecommunity.service.CommentService;
 import com.kimbos.onlinecommunity.service.PaginationService;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
+import com.kimbos.onlinecommunity.utils.Hashes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -26,21 +43,38 @@ import java.util.List;
 @Controller
 public class ArticleController {
 
+    private static final int TRENDING_HASHTAG_COUNT = 10;
+    private static final int HASHTAG_DIRECTORY_SIZE = 50;
+    private static final int SUGGESTION_COUNT = 10;
+
     private final ArticleService articleService;
+    private final CommentService commentService;
     private final PaginationService paginationService;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleReaderCounter articleReaderCounter;
+    private final SuggestionIndex suggestionIndex;
 
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> barNums = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+        if (cursor != null) {
+            Slice<ArticleResponse> articles = articleService
+                    .searchArticles(searchType, searchValue, ArticleCursor.decode(cursor), pageable.getPageSize())
+                    .map(ArticleResponse::from);
+            addCursorAttributes(map, articles);
+        } else {
+            Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
+            List<Integer> barNums = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
 
-        map.addAttribute("articles", articles);
-        map.addAttribute("paginationBarNumbers", barNums);
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", barNums);
+            map.addAttribute("cursorMode", false);
+        }
         map.addAttribute("searchTypes", SearchType.values());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
@@ -48,29 +82,106 @@ public class ArticleController {
     }
 
     @GetMapping("/{articleId}")
-    public String article(@PathVariable Long articleId, ModelMap map) {
-        ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+    public String article(
+            @PathVariable Long articleId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal CommunityPrincipal communityPrincipal,
+            HttpServletRequest request,
+            ModelMap map
+    ) {
+        // Only one page of thread roots is rendered, replies are fetched from /comments/{commentId}/replies
+        ArticleDto articleDto = articleService.getArticle(articleId);
+        ArticleResponse article = ArticleResponse.from(articleDto);
+        articleViewCounter.increment(articleId);
+        articleReaderCounter.record(articleId, readerOf(communityPrincipal, request));
+        Page<CommentResponse> comments = commentService.getRootComments(articleId, pageable).map(CommentResponse::from);
         map.addAttribute("article", article);
-        map.addAttribute("comments", article.commentsResponse());
-        map.addAttribute("totalCount", articleService.getArticleCount());
+        map.addAttribute("comments", comments);
+        map.addAttribute("previousArticleId", articleService.getPreviousArticleId(articleDto).orElse(null));
+        map.addAttribute("nextArticleId", articleService.getNextArticleId(articleDto).orElse(null));
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/detail";
     }
 
+    @ResponseBody
+    @GetMapping("/{articleId}/readers")
+    public UniqueReadersResponse articleReaders(@PathVariable Long articleId) {
+        return UniqueReadersResponse.ofArticle(articleId, articleReaderCounter.uniqueReaders(articleId));
+    }
+
+    @ResponseBody
+    @GetMapping("/readers")
+    public UniqueReadersResponse hashtagReaders(@RequestParam String hashtag) {
+        return UniqueReadersResponse.ofHashtag(hashtag, articleReaderCounter.uniqueReadersOfHashtag(hashtag));
+    }
+
+    @ResponseBody
+    @GetMapping("/hashtags")
+    public HashtagDirectoryResponse hashtagDirectory(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String cursor
+    ) {
+        return HashtagDirectoryResponse.from(articleService.getHashtagDirectory(prefix, HashtagCursor.decode(cursor), HASHTAG_DIRECTORY_SIZE));
+    }
+
+    @ResponseBody
+    @GetMapping("/suggest/hashtags")
+    public SuggestionsResponse suggestHashtags(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "" + SUGGESTION_COUNT) int limit
+    ) {
+        return SuggestionsResponse.of(prefix, suggestionIndex.suggestHashtags(prefix, Math.min(limit, SUGGESTION_COUNT)));
+    }
+
+    @ResponseBody
+    @GetMapping("/suggest/nicknames")
+    public SuggestionsResponse suggestNicknames(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "" + SUGGESTION_COUNT) int limit
+    ) {
+        return SuggestionsResponse.of(prefix, suggestionIndex.suggestNicknames(prefix, Math.min(limit, SUGGESTION_COUNT)));
+    }
+
     @GetMapping("/search-hashtag")
     public String searchHashtag(
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) TrendWindow trendWindow,
+            @RequestParam(required = false) String hashtagPrefix,
+            @RequestParam(required = false) String hashtagCursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesByHashtag(searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> barNums = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = articleService.getHashtags();
+        if (cursor != null) {
+            Slice<ArticleResponse> articles = articleService
+                    .searchArticlesByHashtag(searchValue, ArticleCursor.decode(cursor), pageable.getPageSize())
+                    .map(ArticleResponse::from);
+            addCursorAttributes(map, articles);
+        } else {
+            Page<ArticleResponse> articles = articleService.searchArticlesByHashtag(searchValue, pageable).map(ArticleResponse::from);
+            List<Integer> barNums = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", barNums);
+            map.addAttribute("cursorMode", false);
+
+            // Later pages and the links of the trending box revisit a search, so only new searches that found articles count
+            if (trendWindow == null && pageable.getPageNumber() == 0 && articles.hasContent()) {
+                articleService.countHashtagSearch(searchValue);
+            }
+        }
+        if (trendWindow == null) {
+            trendWindow = TrendWindow.HOUR;
+        }
+        Slice<HashtagSummaryDto> hashtags = articleService.getHashtagDirectory(
+                hashtagPrefix, HashtagCursor.decode(hashtagCursor), HASHTAG_DIRECTORY_SIZE);
 
-        map.addAttribute("articles", articles);
-        map.addAttribute("paginationBarNumbers", barNums);
         map.addAttribute("hashtags", hashtags);
+        map.addAttribute("nextHashtagCursor", HashtagDirectoryResponse.nextCursorOf(hashtags));
+        map.addAttribute("trendingHashtags", articleService.getTrendingHashtags(trendWindow, TRENDING_HASHTAG_COUNT));
+        map.addAttribute("trendWindows", TrendWindow.values());
+        map.addAttribute("trendWindow", trendWindow);
         map.addAttribute("searchType", SearchType.HASHTAG);
 
         return "articles/search-hashtag";
@@ -98,7 +209,8 @@ public class ArticleController {
             @PathVariable Long articleId,
             ModelMap map
     ) {
-        ArticleResponse article = ArticleResponse.from(articleService.getArticle(articleId));
+        ArticleDto articleDto = articleService.getArticle(articleId);
+        ArticleResponse article = ArticleResponse.from(articleDto);
 
         map.addAttribute("article", article);
         map.addAttribute("formStatus", FormStatus.UPDATE);
@@ -126,4 +238,35 @@ public class ArticleController {
 
         return "redirect:/articles";
     }
+
+    /**
+     * Cursor mode has no page numbers: the view only links to the page after the last article shown.
+     */
+    private void addCursorAttributes(ModelMap map, Slice<ArticleResponse> articles) {
+        String nextCursor = null;
+        if (articles.hasNext()) {
+            ArticleResponse last = articles.getContent().get(articles.getNumberOfElements() - 1);
+            nextCursor = ArticleCursor.of(last.createdAt(), last.id()).encode();
+        }
+
+        map.addAttribute("articles", articles);
+        map.addAttribute("cursorMode", true);
+        map.addAttribute("nextCursor", nextCursor);
+    }
+
+    /**
+     * Tells readers apart without creating a session: a reader without one, a bot for instance,
+     * is identified by a hash of its address and user agent instead.
+     */
+    private static String readerOf(CommunityPrincipal communityPrincipal, HttpServletRequest request) {
+        if (communityPrincipal != null) {
+            return "user:" + communityPrincipal.getUsername();
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "session:" + session.getId();
+        }
+        return "client:" + Long.toHexString(Hashes.hash64(request.getRemoteAddr() + '|' + request.getHeader(HttpHeaders.USER_AGENT)));
+    }
 }
@@ -0,0 +1,44 @@
+package com.kimbos.onlinecommunity.controller;
+
+import com.kimbos.onlinecommunity.service.exporter.ArticleExporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * NDJSON dump of the board, written while it is read. For an incremental export, pass the {@code createdAt} of the
+ * last exported article as {@code since}; that article comes again, as the bound is inclusive.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/admin/export")
+@Controller
+public class ArticleExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ArticleExporter articleExporter;
+
+
+    @GetMapping("/articles")
+    public StreamingResponseBody exportArticles(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\"");
+        // Committed here, so that every header is written by this thread and none by the one streaming the body
+        response.flushBuffer();
+
+        return outputStream -> articleExporter.export(since, outputStream);
+    }
+}
@@ -0,0 +1,58 @@
+package com.kimbos.onlinecommunity.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimbos.onlinecommunity.dto.response.ArticleImportResponse;
+import com.kimbos.onlinecommunity.service.importer.ArticleImportReader;
+import com.kimbos.onlinecommunity.service.importer.ArticleImporter;
+import com.kimbos.onlinecommunity.service.importer.CsvArticleImportReader;
+import com.kimbos.onlinecommunity.service.importer.NdjsonArticleImportReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk import of articles with their comments. The request body is read as a stream, record by record.
+ * Send the same input with the same {@code jobId} again to resume a job that failed halfway.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/admin/import")
+@Controller
+public class ArticleImportController {
+
+    private static final int MAX_JOB_ID_LENGTH = 100;
+
+    private final ArticleImporter articleImporter;
+    private final ObjectMapper objectMapper;
+
+
+    @ResponseBody
+    @PostMapping(value = "/articles", consumes = "application/x-ndjson")
+    public ArticleImportResponse importNdjson(@RequestParam String jobId, InputStream body) throws IOException {
+        return importArticles(jobId, new NdjsonArticleImportReader(body, objectMapper));
+    }
+
+    @ResponseBody
+    @PostMapping(value = "/articles", consumes = "text/csv")
+    public ArticleImportResponse importCsv(@RequestParam String jobId, InputStream body) throws IOException {
+        return importArticles(jobId, new CsvArticleImportReader(body));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> malformedInput(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private ArticleImportResponse importArticles(String jobId, ArticleImportReader reader) throws IOException {
+        if (jobId.isBlank() || jobId.length() > MAX_JOB_ID_LENGTH) {
+            throw new IllegalArgumentException("Job id must be 1 to " + MAX_JOB_ID_LENGTH + " characters - jobId: " + jobId);
+        }
+
+        try (reader) {
+            return articleImporter.importArticles(jobId, reader);
+        }
+    }
+}
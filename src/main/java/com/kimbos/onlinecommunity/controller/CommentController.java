@@ -1,16 +1,21 @@
 package com.kimbos.onlinecommunity.controller;
 
 import com.kimbos.onlinecommunity.dto.request.CommentRequest;
+import com.kimbos.onlinecommunity.dto.response.CommentRepliesResponse;
+import com.kimbos.onlinecommunity.dto.response.CommentResponse;
+import com.kimbos.onlinecommunity.dto.response.CommentSearchResponse;
 import com.kimbos.onlinecommunity.dto.UserAccountDto;
 import com.kimbos.onlinecommunity.dto.security.CommunityPrincipal;
 import com.kimbos.onlinecommunity.service.CommentService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.*;
 
 
 @RequiredArgsConstructor
@@ -21,6 +26,32 @@ public class CommentController {
     private final CommentService commentService;
 
 
+    @ResponseBody
+    @GetMapping("/{commentId}/replies")
+    public CommentRepliesResponse replies(
+            @PathVariable Long commentId,
+            @RequestParam(defaultValue = "1") int depth,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable
+    ) {
+        Slice<CommentResponse> replies = commentService.getReplies(commentId, depth, pageable).map(CommentResponse::from);
+
+        return CommentRepliesResponse.of(replies.getContent(), replies.hasNext());
+    }
+
+    /**
+     * Comments containing every word of the keyword, best match first.
+     */
+    @ResponseBody
+    @GetMapping("/search")
+    public CommentSearchResponse search(
+            @RequestParam String keyword,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        Page<CommentResponse> comments = commentService.searchCommentsByKeyword(keyword, pageable).map(CommentResponse::from);
+
+        return CommentSearchResponse.of(comments.getContent(), comments.getTotalElements(), comments.hasNext());
+    }
+
     @PostMapping("/new")
     public String postNewComment(
             @AuthenticationPrincipal CommunityPrincipal communityPrincipal,
@@ -0,0 +1,27 @@
+package com.kimbos.onlinecommunity.controller;
+
+import com.kimbos.onlinecommunity.dto.response.HashtagRepairResponse;
+import com.kimbos.onlinecommunity.service.HashtagArticleCountRepairer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * Hashtag maintenance that is too expensive to schedule, run by an admin when the counters are known to be off.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/admin/hashtags")
+@Controller
+public class HashtagAdminController {
+
+    private final HashtagArticleCountRepairer hashtagArticleCountRepairer;
+
+
+    @ResponseBody
+    @PostMapping("/article-counts/repair")
+    public HashtagRepairResponse repairArticleCounts() {
+        return HashtagRepairResponse.of(hashtagArticleCountRepairer.repair());
+    }
+}
@@ -0,0 +1,94 @@
+package com.kimbos.onlinecommunity.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replica lag guard based on a heartbeat row: every check writes the current time into
+ * {@code replication_heartbeat} on the primary, and a replica is as far behind as the heartbeat it shows is older than
+ * the last one written. Replicas are read before the new heartbeat is written, so one that keeps up shows zero lag,
+ * and the lag is measured in steps of the check interval.
+ * <p>
+ * A replica that lags more than {@code maxLag}, or can't be read, is taken out of the read rotation until a later
+ * check finds it caught up.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String CREATE_HEARTBEAT = "create table if not exists replication_heartbeat (id int primary key, beat_at timestamp not null)";
+    private static final String SELECT_HEARTBEAT = "select beat_at from replication_heartbeat where id = 1";
+    private static final String UPDATE_HEARTBEAT = "update replication_heartbeat set beat_at = ? where id = 1";
+    private static final String INSERT_HEARTBEAT = "insert into replication_heartbeat (id, beat_at) values (1, ?)";
+
+    private final JdbcTemplate primary;
+    private final List<ReplicaRoutingDataSource.Replica> replicas;
+    private final Map<String, JdbcTemplate> replicaTemplates = new HashMap<>();
+    private final Duration maxLag;
+    private final Clock clock;
+
+    private Instant lastBeat;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag) {
+        this(routingDataSource, maxLag, Clock.systemUTC());
+    }
+
+    ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag, Clock clock) {
+        this.primary = new JdbcTemplate(routingDataSource.getPrimary());
+        this.replicas = routingDataSource.getReplicas();
+        this.replicas.forEach(replica -> replicaTemplates.put(replica.getName(), new JdbcTemplate(replica.getDataSource())));
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${community.datasource.lag-check-interval:PT1S}")
+    public synchronized void check() {
+        if (lastBeat == null) {
+            primary.execute(CREATE_HEARTBEAT);
+            lastBeat = primary.query(SELECT_HEARTBEAT, rs -> rs.next() ? rs.getTimestamp(1).toInstant() : null);
+        }
+
+        for (ReplicaRoutingDataSource.Replica replica : replicas) {
+            checkReplica(replica);
+        }
+
+        Instant beat = clock.instant();
+        if (primary.update(UPDATE_HEARTBEAT, Timestamp.from(beat)) == 0) {
+            primary.update(INSERT_HEARTBEAT, Timestamp.from(beat));
+        }
+        lastBeat = beat;
+    }
+
+    private void checkReplica(ReplicaRoutingDataSource.Replica replica) {
+        boolean wasAvailable = replica.isAvailable();
+        try {
+            Timestamp seen = replicaTemplates.get(replica.getName())
+                    .query(SELECT_HEARTBEAT, rs -> rs.next() ? rs.getTimestamp(1) : null);
+            // Without a heartbeat on either side the lag is unknown, which keeps the replica out until the next check
+            Duration lag = null;
+            if (lastBeat != null && seen != null) {
+                lag = Duration.between(seen.toInstant(), lastBeat);
+                lag = lag.isNegative() ? Duration.ZERO : lag;
+            }
+            boolean available = lag != null && lag.compareTo(maxLag) <= 0;
+            replica.update(available, lag);
+
+            if (available != wasAvailable) {
+                log.info("Replica {} is {} - lag: {}, maxLag: {}", replica.getName(), available ? "back in rotation" : "out of rotation", lag, maxLag);
+            }
+        } catch (RuntimeException e) {
+            replica.update(false, null);
+            if (wasAvailable) {
+                log.warn("Replica {} is out of rotation - {}", replica.getName(), e.getMessage());
+            }
+        }
+    }
+}
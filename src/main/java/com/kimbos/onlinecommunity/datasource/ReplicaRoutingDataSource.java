@@ -0,0 +1,141 @@
+package com.kimbos.onlinecommunity.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections of {@code @Transactional(readOnly = true)} transactions to a replica, everything else to the primary.
+ * Only replicas that {@link ReplicaLagMonitor} currently marks as available are picked; without one, reads go to
+ * the primary as well.
+ * <p>
+ * The read-only flag is set after the transaction manager asks for a connection, so this data source has to sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which only routes on the first
+ * statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    public enum Selection {
+        /** Replicas in turn */
+        ROUND_ROBIN,
+        /** The replica with the fewest active pool connections, ties in turn */
+        LEAST_LOADED
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final AtomicInteger turn = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Selection selection) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.selection = selection;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targetDataSources.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Closes the pools of the primary and every replica.
+     */
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.getDataSource()));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return selectReplica().map(Replica::getName).orElse(PRIMARY);
+    }
+
+    Optional<Replica> selectReplica() {
+        List<Replica> available = replicas.stream().filter(Replica::isAvailable).toList();
+        if (available.isEmpty()) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(turn.getAndIncrement(), available.size());
+        if (selection == Selection.ROUND_ROBIN) {
+            return Optional.of(available.get(start));
+        }
+
+        Replica leastLoaded = null;
+        int leastActive = Integer.MAX_VALUE;
+        for (int i = 0; i < available.size(); i++) {
+            Replica replica = available.get((start + i) % available.size());
+            int active = replica.activeConnections();
+            if (active < leastActive) {
+                leastLoaded = replica;
+                leastActive = active;
+            }
+        }
+        return Optional.of(leastLoaded);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ignored) {
+                // Shutting down anyway
+            }
+        }
+    }
+
+
+    /**
+     * A replica and the state {@link ReplicaLagMonitor} last saw it in. Unavailable until its first lag check.
+     */
+    @Getter
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile Duration lag;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void update(boolean available, Duration lag) {
+            this.available = available;
+            this.lag = lag;
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.Collection;
@@ -16,14 +20,19 @@ import java.util.Set;
 @NoArgsConstructor
 @Table(indexes = {
         @Index(columnList = "title"),
-        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdAt, id"),
         @Index(columnList = "createdBy"),
+        @Index(columnList = "commentCount"),
 })
 @Entity
 public class Article extends AuditingField {
 
+    // Second-level cache region of the hashtags collection
+    public static final String HASHTAGS_CACHE_REGION = "articleHashtags";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
     private Long id;
 
     @Setter
@@ -39,12 +48,24 @@ public class Article extends AuditingField {
     @Column(nullable = false, length = 10000)
     private String content;
 
+    // Written only by atomic UPDATE statements, never by flushing a stale entity
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
+    // Written only by the batched flushes of ArticleViewCounter
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
+
     @ToString.Exclude
     @JoinTable(
             name = "article_hashtag",
             joinColumns = @JoinColumn(name = "articleId"),
-            inverseJoinColumns = @JoinColumn(name = "hashtagId")
+            inverseJoinColumns = @JoinColumn(name = "hashtagId"),
+            indexes = @Index(columnList = "hashtagId")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HASHTAGS_CACHE_REGION)
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private Set<Hashtag> hashtags = new LinkedHashSet<>();
 
@@ -74,6 +95,10 @@ public class Article extends AuditingField {
         this.getHashtags().addAll(hashtags);
     }
 
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        this.getHashtags().removeAll(hashtags);
+    }
+
     public void clearHashtags() {
         this.getHashtags().clear();
     }
@@ -0,0 +1,49 @@
+package com.kimbos.onlinecommunity.domain;
+
+import com.kimbos.onlinecommunity.utils.HyperLogLog;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * Distinct readers of an article as {@link HyperLogLog} registers, one byte each, instead of the set of readers.
+ */
+@Getter
+@ToString(exclude = "registers")
+@Entity
+public class ArticleReaderSketch {
+
+    @Id
+    private Long articleId;
+
+    @Column(nullable = false, length = HyperLogLog.REGISTERS)
+    private byte[] registers;
+
+    @Column(nullable = false) private LocalDateTime updatedAt;
+
+    protected ArticleReaderSketch() {}
+
+    private ArticleReaderSketch(Long articleId) {
+        this.articleId = articleId;
+        this.registers = new byte[HyperLogLog.REGISTERS];
+    }
+
+    public static ArticleReaderSketch of(Long articleId) {
+        return new ArticleReaderSketch(articleId);
+    }
+
+    public HyperLogLog toHyperLogLog() {
+        return HyperLogLog.fromBytes(registers);
+    }
+
+    public void merge(HyperLogLog readers) {
+        HyperLogLog merged = toHyperLogLog();
+        merged.merge(readers);
+        this.registers = merged.toBytes();
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -16,13 +18,17 @@ import java.util.Set;
 @Table(indexes = {
         @Index(columnList = "content"),
         @Index(columnList = "createdAt"),
-        @Index(columnList = "createdBy")
+        @Index(columnList = "createdBy"),
+        @Index(columnList = "article_id, parentCommentId, createdAt"),
+        @Index(columnList = "article_id, id"),
+        @Index(columnList = "parentCommentId, createdAt")
 })
 @Entity
 public class Comment extends AuditingField {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
     private Long id;
 
     @Setter
@@ -47,6 +53,11 @@ public class Comment extends AuditingField {
     @Column(nullable = false, length = 500)
     private String content;
 
+    // Replies at any depth below, written only by atomic UPDATE statements
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long replyCount;
+
 
     private Comment(Article article, UserAccount userAccount, Long parentCommentId, String content) {
         this.article = article;
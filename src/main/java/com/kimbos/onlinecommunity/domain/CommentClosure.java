@@ -0,0 +1,55 @@
+package com.kimbos.onlinecommunity.domain;
+
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * One ancestor-descendant path of the comment tree, including the path of length 0 from a comment to itself.
+ * Rows are written with SQL by {@code CommentClosureRepository} and disappear with either comment through the
+ * {@code ON DELETE CASCADE} foreign keys.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(CommentClosure.Key.class)
+@Table(indexes = {
+        @Index(columnList = "ancestorId, depth"),
+        @Index(columnList = "descendantId")
+})
+@Entity
+public class CommentClosure {
+
+    @Id
+    private Long ancestorId;
+
+    @Id
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @ToString.Exclude
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "ancestorId", insertable = false, updatable = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Comment ancestor;
+
+    @ToString.Exclude
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "descendantId", insertable = false, updatable = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Comment descendant;
+
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -3,6 +3,10 @@ package com.kimbos.onlinecommunity.domain;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.LinkedHashSet;
@@ -13,14 +17,22 @@ import java.util.Set;
 @ToString(callSuper = true)
 @Table(indexes = {
         @Index(columnList = "hashtagName", unique = true),
+        @Index(columnList = "articleCount, hashtagName"),
+        @Index(columnList = "hashtagName, articleCount"),
         @Index(columnList = "createdAt"),
         @Index(columnList = "createdBy")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Hashtag.CACHE_REGION)
 @Entity
 public class Hashtag extends AuditingField {
 
+    // Name of the second-level cache region, also the key of its size in community.second-level-cache.regions
+    public static final String CACHE_REGION = "hashtag";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
     private Long id;
 
     @ToString.Exclude
@@ -29,6 +41,11 @@ public class Hashtag extends AuditingField {
 
     @Setter @Column(nullable = false) private String hashtagName;
 
+    // Written only by relative bulk updates as articles are tagged and untagged, never from a loaded instance
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long articleCount;
+
     protected Hashtag() {}
 
     private Hashtag(String hashtagName) {
@@ -0,0 +1,48 @@
+package com.kimbos.onlinecommunity.domain;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk import job, committed together with each batch.
+ * {@code position} is the number of input records already handled, so a rerun of the job skips exactly those.
+ */
+@Getter
+@ToString
+@Entity
+public class ImportCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String jobId;
+
+    @Column(nullable = false) private long position;
+    @Column(nullable = false) private long importedArticles;
+    @Column(nullable = false) private long importedComments;
+    @Column(nullable = false) private long skippedRecords;
+    @Column(nullable = false) private LocalDateTime updatedAt;
+
+    protected ImportCheckpoint() {}
+
+    private ImportCheckpoint(String jobId) {
+        this.jobId = jobId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static ImportCheckpoint of(String jobId) {
+        return new ImportCheckpoint(jobId);
+    }
+
+    public void advance(long records, long articles, long comments, long skipped) {
+        this.position += records;
+        this.importedArticles += articles;
+        this.importedComments += comments;
+        this.skippedRecords += skipped;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
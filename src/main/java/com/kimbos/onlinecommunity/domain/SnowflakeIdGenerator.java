@@ -0,0 +1,57 @@
+package com.kimbos.onlinecommunity.domain;
+
+import com.kimbos.onlinecommunity.utils.Snowflake;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns {@link Snowflake} ids before insert. Unlike {@code IDENTITY}, the id is known without executing the insert,
+ * so Hibernate can send inserts in JDBC batches of {@code hibernate.jdbc.batch_size}.
+ * <p>
+ * The node id comes from the {@value #NODE_ID_SETTING} Hibernate property, or from the host name when it is unset.
+ * Every entity of a node shares one {@link Snowflake}, so ids are unique across tables too.
+ */
+@Slf4j
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "snowflake";
+    public static final String STRATEGY = "com.kimbos.onlinecommunity.domain.SnowflakeIdGenerator";
+    public static final String NODE_ID_SETTING = "community.id.node-id";
+
+    private static final Map<Integer, Snowflake> SNOWFLAKES = new ConcurrentHashMap<>();
+
+    private Snowflake snowflake;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        Object nodeIdSetting = serviceRegistry.getService(ConfigurationService.class).getSettings().get(NODE_ID_SETTING);
+        boolean configured = nodeIdSetting != null && !nodeIdSetting.toString().isBlank();
+        int nodeId = configured ? Integer.parseInt(nodeIdSetting.toString().strip()) : Snowflake.hostNodeId();
+
+        snowflake = SNOWFLAKES.computeIfAbsent(nodeId, id -> {
+            log.info("Snowflake id generator is ready - nodeId: {}, configured: {}", id, configured);
+            return new Snowflake(id);
+        });
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    /**
+     * For rows written without a session, so they share the ids of this node with the entities.
+     */
+    public long nextId() {
+        return snowflake.nextId();
+    }
+}
@@ -0,0 +1,26 @@
+package com.kimbos.onlinecommunity.domain.enums;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Sliding windows of trending hashtags. A window slides one bucket at a time, so it covers between
+ * {@code buckets - 1} and {@code buckets} bucket lengths.
+ */
+@Getter
+public enum TrendWindow {
+    HOUR("1h", Duration.ofMinutes(5), 12),
+    DAY("24h", Duration.ofHours(1), 24),
+    WEEK("7d", Duration.ofHours(6), 28);
+
+    private final String description;
+    private final Duration bucketLength;
+    private final int buckets;
+
+    TrendWindow(String description, Duration bucketLength, int buckets) {
+        this.description = description;
+        this.bucketLength = bucketLength;
+        this.buckets = buckets;
+    }
+}
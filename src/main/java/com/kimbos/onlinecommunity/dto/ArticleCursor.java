@@ -0,0 +1,46 @@
+package com.kimbos.onlinecommunity.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Position in the article list ordered by {@code createdAt DESC, id DESC}.
+ * The next page starts right after this position, so the database seeks instead of skipping rows.
+ */
+public record ArticleCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "_";
+
+    public static ArticleCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCursor(createdAt, id);
+    }
+
+    /**
+     * Read a cursor from a request parameter. A blank or malformed value means the first page.
+     */
+    public static ArticleCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        int delimiterIndex = value.lastIndexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            return null;
+        }
+        try {
+            return new ArticleCursor(
+                    LocalDateTime.parse(value.substring(0, delimiterIndex)),
+                    Long.parseLong(value.substring(delimiterIndex + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String encode() {
+        return createdAt + DELIMITER + id;
+    }
+}
@@ -0,0 +1,38 @@
+package com.kimbos.onlinecommunity.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One NDJSON line of an article export. Ids are strings, because snowflake ids don't fit in a JavaScript number.
+ * The fields are a superset of {@link ArticleImportRecord}, so an export can be imported again. The import ignores
+ * {@code parentCommentId} though: a round trip keeps every comment, but flattens threads into root comments.
+ */
+public record ArticleExportRecord(
+        String id,
+        String userId,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        List<String> hashtags,
+        List<CommentRecord> comments
+) {
+
+    public static ArticleExportRecord of(String id, String userId, String title, String content, LocalDateTime createdAt, List<String> hashtags, List<CommentRecord> comments) {
+        return new ArticleExportRecord(id, userId, title, content, createdAt, hashtags, comments);
+    }
+
+
+    public record CommentRecord(
+            String id,
+            String parentCommentId,
+            String userId,
+            String content,
+            LocalDateTime createdAt
+    ) {
+
+        public static CommentRecord of(String id, String parentCommentId, String userId, String content, LocalDateTime createdAt) {
+            return new CommentRecord(id, parentCommentId, userId, content, createdAt);
+        }
+    }
+}
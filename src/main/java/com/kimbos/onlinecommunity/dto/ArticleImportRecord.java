@@ -0,0 +1,37 @@
+package com.kimbos.onlinecommunity.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One article of a bulk import with its root comments, as read from an NDJSON line or a group of CSV rows.
+ * Replies of an exported article carry a parent comment id, which is not read: they are imported as root comments.
+ */
+public record ArticleImportRecord(
+        String userId,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        List<CommentRecord> comments
+) {
+
+    public static ArticleImportRecord of(String userId, String title, String content, LocalDateTime createdAt, List<CommentRecord> comments) {
+        return new ArticleImportRecord(userId, title, content, createdAt, comments);
+    }
+
+    public List<CommentRecord> comments() {
+        return comments == null ? List.of() : comments;
+    }
+
+
+    public record CommentRecord(
+            String userId,
+            String content,
+            LocalDateTime createdAt
+    ) {
+
+        public static CommentRecord of(String userId, String content, LocalDateTime createdAt) {
+            return new CommentRecord(userId, content, createdAt);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.kimbos.onlinecommunity.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of an article that go into the search index. Read by a projection, so rebuilding the index never loads
+ * the entity or its author.
+ */
+public record ArticleIndexDto(
+        Long id,
+        String title,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    public static ArticleIndexDto of(Long id, String title, String content, LocalDateTime createdAt) {
+        return new ArticleIndexDto(id, title, content, createdAt);
+    }
+}
@@ -0,0 +1,23 @@
+package com.kimbos.onlinecommunity.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Row of the article list. Read by a column projection, so the article content is never loaded.
+ */
+public record ArticleSummaryDto(
+        Long id,
+        String title,
+        Set<String> hashtagNames,
+        LocalDateTime createdAt,
+        String userId,
+        String email,
+        String nickname,
+        long commentCount
+) {
+
+    public static ArticleSummaryDto of(Long id, String title, Set<String> hashtagNames, LocalDateTime createdAt, String userId, String email, String nickname, long commentCount) {
+        return new ArticleSummaryDto(id, title, hashtagNames, createdAt, userId, email, nickname, commentCount);
+    }
+}
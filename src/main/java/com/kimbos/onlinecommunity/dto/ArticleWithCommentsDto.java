@@ -1,46 +0,0 @@
-package com.kimbos.onlinecommunity.dto;
-
-import com.kimbos.onlinecommunity.domain.Article;
-import com.kimbos.onlinecommunity.domain.Hashtag;
-
-import java.time.LocalDateTime;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.LinkedHashSet;
-
-public record ArticleWithCommentsDto(
-        Long id,
-        UserAccountDto userAccountDto,
-        Set<CommentDto> articleCommentDtos,
-        String title,
-        String content,
-        Set<HashtagDto> hashtagDtos,
-        LocalDateTime createdAt,
-        String createdBy,
-        LocalDateTime modifiedAt,
-        String modifiedBy
-) {
-    public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<CommentDto> commentDtos, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, userAccountDto, commentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
-    }
-
-    public static ArticleWithCommentsDto from(Article entity) {
-        return new ArticleWithCommentsDto(
-                entity.getId(),
-                UserAccountDto.from(entity.getUserAccount()),
-                entity.getComments().stream()
-                        .map(CommentDto::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new)),
-                entity.getTitle(),
-                entity.getContent(),
-                entity.getHashtags().stream()
-                        .map(HashtagDto::from)
-                        .collect(Collectors.toUnmodifiableSet())
-                ,
-                entity.getCreatedAt(),
-                entity.getCreatedBy(),
-                entity.getModifiedAt(),
-                entity.getModifiedBy()
-        );
-    }
-}
\ No newline at end of file
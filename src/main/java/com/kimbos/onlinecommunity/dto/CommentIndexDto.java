@@ -0,0 +1,14 @@
+package com.kimbos.onlinecommunity.dto;
+
+/**
+ * Columns of a comment that go into the search index. Read by a projection, like {@link ArticleIndexDto}.
+ */
+public record CommentIndexDto(
+        Long id,
+        String content
+) {
+
+    public static CommentIndexDto of(Long id, String content) {
+        return new CommentIndexDto(id, content);
+    }
+}
@@ -0,0 +1,44 @@
+package com.kimbos.onlinecommunity.dto;
+
+/**
+ * Position in the hashtag directory ordered by {@code articleCount DESC, hashtagName DESC}.
+ * The next page starts right after this position, like {@link ArticleCursor}.
+ */
+public record HashtagCursor(
+        long articleCount,
+        String hashtagName
+) {
+
+    private static final String DELIMITER = "_";
+
+    public static HashtagCursor of(long articleCount, String hashtagName) {
+        return new HashtagCursor(articleCount, hashtagName);
+    }
+
+    /**
+     * Read a cursor from a request parameter. A blank or malformed value means the first page.
+     * The count comes first, so a hashtag name containing the delimiter is read back whole.
+     */
+    public static HashtagCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        int delimiterIndex = value.indexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            return null;
+        }
+        try {
+            return new HashtagCursor(
+                    Long.parseLong(value.substring(0, delimiterIndex)),
+                    value.substring(delimiterIndex + 1)
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String encode() {
+        return articleCount + DELIMITER + hashtagName;
+    }
+}
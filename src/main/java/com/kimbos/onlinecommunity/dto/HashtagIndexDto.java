@@ -0,0 +1,15 @@
+package com.kimbos.onlinecommunity.dto;
+
+/**
+ * Columns of a hashtag that go into the suggestion index, with the id to read the next batch after.
+ */
+public record HashtagIndexDto(
+        Long id,
+        String hashtagName,
+        long articleCount
+) {
+
+    public static HashtagIndexDto of(Long id, String hashtagName, long articleCount) {
+        return new HashtagIndexDto(id, hashtagName, articleCount);
+    }
+}
@@ -0,0 +1,14 @@
+package com.kimbos.onlinecommunity.dto;
+
+/**
+ * Row of the hashtag directory. Read by a column projection covered by the hashtag indexes.
+ */
+public record HashtagSummaryDto(
+        String hashtagName,
+        long articleCount
+) {
+
+    public static HashtagSummaryDto of(String hashtagName, long articleCount) {
+        return new HashtagSummaryDto(hashtagName, articleCount);
+    }
+}
@@ -0,0 +1,14 @@
+package com.kimbos.onlinecommunity.dto;
+
+/**
+ * Nickname of a user for the suggestion index, with the user id to read the next batch after.
+ */
+public record NicknameIndexDto(
+        String userId,
+        String nickname
+) {
+
+    public static NicknameIndexDto of(String userId, String nickname) {
+        return new NicknameIndexDto(userId, nickname);
+    }
+}
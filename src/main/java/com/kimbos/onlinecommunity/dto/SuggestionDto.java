@@ -0,0 +1,14 @@
+package com.kimbos.onlinecommunity.dto;
+
+/**
+ * One autocomplete suggestion. {@code weight} is the article count of a hashtag, or the number of users of a nickname.
+ */
+public record SuggestionDto(
+        String term,
+        long weight
+) {
+
+    public static SuggestionDto of(String term, long weight) {
+        return new SuggestionDto(term, weight);
+    }
+}
@@ -0,0 +1,11 @@
+package com.kimbos.onlinecommunity.dto;
+
+public record TrendingHashtagDto(
+        String hashtagName,
+        long count
+) {
+
+    public static TrendingHashtagDto of(String hashtagName, long count) {
+        return new TrendingHashtagDto(hashtagName, count);
+    }
+}
@@ -0,0 +1,19 @@
+package com.kimbos.onlinecommunity.dto.response;
+
+public record ArticleImportResponse(
+        String jobId,
+        long resumedFrom,
+        long records,
+        long importedArticles,
+        long importedComments,
+        long skippedRecords,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+
+    public static ArticleImportResponse of(String jobId, long resumedFrom, long records, long importedArticles, long importedComments, long skippedRecords, long elapsedMillis) {
+        double rowsPerSecond = elapsedMillis == 0 ? 0 : (importedArticles + importedComments) * 1000.0 / elapsedMillis;
+
+        return new ArticleImportResponse(jobId, resumedFrom, records, importedArticles, importedComments, skippedRecords, elapsedMillis, rowsPerSecond);
+    }
+}
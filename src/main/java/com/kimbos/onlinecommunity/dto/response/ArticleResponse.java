@@ -1,6 +1,7 @@
 package com.kimbos.onlinecommunity.dto.response;
 
 import com.kimbos.onlinecommunity.dto.ArticleDto;
+import com.kimbos.onlinecommunity.dto.ArticleSummaryDto;
 import com.kimbos.onlinecommunity.dto.HashtagDto;
 
 import java.time.LocalDateTime;
@@ -14,11 +15,14 @@ public record ArticleResponse(
         Set<String> hashtags,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        String userId,
+        Long commentCount,
+        Long viewCount
 )   {
 
-    public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
+    public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, String userId, Long commentCount, Long viewCount) {
+        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname, userId, commentCount, viewCount);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -37,7 +41,30 @@ public record ArticleResponse(
                 ,
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.userAccountDto().userId(),
+                null,
+                dto.viewCount()
+        );
+    }
+
+    public static ArticleResponse from(ArticleSummaryDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
+
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                null,
+                dto.hashtagNames(),
+                dto.createdAt(),
+                dto.email(),
+                nickname,
+                dto.userId(),
+                dto.commentCount(),
+                null
         );
     }
 }
@@ -1,70 +0,0 @@
-package com.kimbos.onlinecommunity.dto.response;
-
-import com.kimbos.onlinecommunity.dto.ArticleWithCommentsDto;
-import com.kimbos.onlinecommunity.dto.CommentDto;
-import com.kimbos.onlinecommunity.dto.HashtagDto;
-
-import java.time.LocalDateTime;
-import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-
-public record ArticleWithCommentsResponse(
-        Long id,
-        String title,
-        String content,
-        Set<String> hashtags,
-        LocalDateTime createdAt,
-        String email,
-        String nickname,
-        String userId,
-        Set<CommentResponse> commentsResponse
-) {
-
-    public static ArticleWithCommentsResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, String userId, Set<CommentResponse> commentResponses) {
-        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, commentResponses);
-    }
-
-    public static ArticleWithCommentsResponse from(ArticleWithCommentsDto dto) {
-        String nickname = dto.userAccountDto().nickname();
-        if (nickname == null || nickname.isBlank()) {
-            nickname = dto.userAccountDto().userId();
-        }
-
-        return new ArticleWithCommentsResponse(
-                dto.id(),
-                dto.title(),
-                dto.content(),
-                dto.hashtagDtos().stream()
-                        .map(HashtagDto::hashtagName)
-                        .collect(Collectors.toUnmodifiableSet())
-                ,
-                dto.createdAt(),
-                dto.userAccountDto().email(),
-                nickname,
-                dto.userAccountDto().userId(),
-                organizeChildComments(dto.articleCommentDtos())
-        );
-    }
-
-    private static Set<CommentResponse> organizeChildComments(Set<CommentDto> dtos) {
-        Map<Long, CommentResponse> map = dtos.stream()
-                .map(CommentResponse::from)
-                .collect(Collectors.toMap(CommentResponse::id, Function.identity()));
-
-        map.values().stream()
-                .filter(CommentResponse::hasParentComment)
-                .forEach(comment -> {
-                    CommentResponse parentComment = map.get(comment.parentCommentId());
-                    parentComment.childComments().add(comment);
-                });
-
-        return map.values().stream()
-                .filter(comment -> !comment.hasParentComment())
-                .collect(Collectors.toCollection(() ->
-                        new TreeSet<>(Comparator
-                                .comparing(CommentResponse::createdAt)
-                                .reversed()
-                                .thenComparingLong(CommentResponse::id))));
-    }
-}
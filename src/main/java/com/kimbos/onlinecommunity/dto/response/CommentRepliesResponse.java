@@ -0,0 +1,13 @@
+package com.kimbos.onlinecommunity.dto.response;
+
+import java.util.List;
+
+public record CommentRepliesResponse(
+        List<CommentResponse> replies,
+        boolean hasNext
+) {
+
+    public static CommentRepliesResponse of(List<CommentResponse> replies, boolean hasNext) {
+        return new CommentRepliesResponse(replies, hasNext);
+    }
+}
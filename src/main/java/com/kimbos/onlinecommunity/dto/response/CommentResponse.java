@@ -1,5 +1,6 @@
 package com.kimbos.onlinecommunity.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.kimbos.onlinecommunity.dto.CommentDto;
 
 import java.time.LocalDateTime;
@@ -7,14 +8,16 @@ import java.util.Comparator;
 import java.util.Set;
 import java.util.TreeSet;
 
+// Ids are written as strings, because 64-bit snowflake ids don't fit in a JavaScript number
 public record CommentResponse(
-        Long id,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long id,
         String content,
         LocalDateTime createdAt,
         String email,
         String nickname,
         String userId,
-        Long parentCommentId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long parentCommentId,
+        long replyCount,
         Set<CommentResponse> childComments
 ) {
 
@@ -23,10 +26,14 @@ public record CommentResponse(
     }
 
     public static CommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId) {
+        return CommentResponse.of(id, content, createdAt, email, nickname, userId, parentCommentId, 0);
+    }
+
+    public static CommentResponse of(Long id, String content, LocalDateTime createdAt, String email, String nickname, String userId, Long parentCommentId, long replyCount) {
         Comparator<CommentResponse> childCommentComparator = Comparator
                 .comparing(CommentResponse::createdAt)
                 .thenComparingLong(CommentResponse::id);
-        return new CommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, new TreeSet<>(childCommentComparator));
+        return new CommentResponse(id, content, createdAt, email, nickname, userId, parentCommentId, replyCount, new TreeSet<>(childCommentComparator));
     }
 
     public static CommentResponse from(CommentDto dto) {
@@ -42,7 +49,8 @@ public record CommentResponse(
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                dto.parentCommentId()
+                dto.parentCommentId(),
+                dto.replyCount()
         );
     }
 
@@ -0,0 +1,14 @@
+package com.kimbos.onlinecommunity.dto.response;
+
+import java.util.List;
+
+public record CommentSearchResponse(
+        List<CommentResponse> comments,
+        long totalElements,
+        boolean hasNext
+) {
+
+    public static CommentSearchResponse of(List<CommentResponse> comments, long totalElements, boolean hasNext) {
+        return new CommentSearchResponse(comments, totalElements, hasNext);
+    }
+}
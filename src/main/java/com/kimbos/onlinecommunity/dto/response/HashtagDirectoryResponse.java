@@ -0,0 +1,30 @@
+package com.kimbos.onlinecommunity.dto.response;
+
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public record HashtagDirectoryResponse(
+        List<HashtagSummaryDto> hashtags,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static HashtagDirectoryResponse from(Slice<HashtagSummaryDto> hashtags) {
+        return new HashtagDirectoryResponse(hashtags.getContent(), nextCursorOf(hashtags), hashtags.hasNext());
+    }
+
+    /**
+     * Cursor of the page after this one, or {@code null} on the last page.
+     */
+    public static String nextCursorOf(Slice<HashtagSummaryDto> hashtags) {
+        if (!hashtags.hasNext()) {
+            return null;
+        }
+
+        HashtagSummaryDto last = hashtags.getContent().get(hashtags.getNumberOfElements() - 1);
+        return HashtagCursor.of(last.articleCount(), last.hashtagName()).encode();
+    }
+}
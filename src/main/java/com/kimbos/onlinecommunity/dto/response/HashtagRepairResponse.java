@@ -0,0 +1,10 @@
+package com.kimbos.onlinecommunity.dto.response;
+
+public record HashtagRepairResponse(
+        int repairedHashtags
+) {
+
+    public static HashtagRepairResponse of(int repairedHashtags) {
+        return new HashtagRepairResponse(repairedHashtags);
+    }
+}
@@ -0,0 +1,15 @@
+package com.kimbos.onlinecommunity.dto.response;
+
+import com.kimbos.onlinecommunity.dto.SuggestionDto;
+
+import java.util.List;
+
+public record SuggestionsResponse(
+        String prefix,
+        List<SuggestionDto> suggestions
+) {
+
+    public static SuggestionsResponse of(String prefix, List<SuggestionDto> suggestions) {
+        return new SuggestionsResponse(prefix, suggestions);
+    }
+}
@@ -0,0 +1,16 @@
+package com.kimbos.onlinecommunity.dto.response;
+
+public record UniqueReadersResponse(
+        Long articleId,
+        String hashtag,
+        long uniqueReaders
+) {
+
+    public static UniqueReadersResponse ofArticle(Long articleId, long uniqueReaders) {
+        return new UniqueReadersResponse(articleId, null, uniqueReaders);
+    }
+
+    public static UniqueReadersResponse ofHashtag(String hashtag, long uniqueReaders) {
+        return new UniqueReadersResponse(null, hashtag, uniqueReaders);
+    }
+}
@@ -36,8 +36,16 @@ public record CommunityPrincipal(
                                         String nickname,
                                         String memo,
                                         Map<String, Object> oAuth2Attributes) {
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
+        return CommunityPrincipal.of(username, password, email, nickname, memo, oAuth2Attributes, Set.of(RoleType.USER));
+    }
 
+    public static CommunityPrincipal of(String username,
+                                        String password,
+                                        String email,
+                                        String nickname,
+                                        String memo,
+                                        Map<String, Object> oAuth2Attributes,
+                                        Set<RoleType> roleTypes) {
         return new CommunityPrincipal(
                 username,
                 password,
@@ -63,6 +71,18 @@ public record CommunityPrincipal(
         );
     }
 
+    public static CommunityPrincipal from(UserAccountDto dto, Set<RoleType> roleTypes) {
+        return CommunityPrincipal.of(
+                dto.userId(),
+                dto.userPassword(),
+                dto.email(),
+                dto.nickname(),
+                dto.memo(),
+                Map.of(),
+                roleTypes
+        );
+    }
+
     public UserAccountDto toDto() {
         return UserAccountDto.of(
                 username,
@@ -97,7 +117,8 @@ public record CommunityPrincipal(
     public String getName() { return username; }
 
     public enum RoleType {
-        USER("ROLE_USER");
+        USER("ROLE_USER"),
+        ADMIN("ROLE_ADMIN");
 
         @Getter
         private final String name;
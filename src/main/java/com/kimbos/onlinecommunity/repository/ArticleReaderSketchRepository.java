@@ -0,0 +1,27 @@
+package com.kimbos.onlinecommunity.repository;
+
+import com.kimbos.onlinecommunity.domain.ArticleReaderSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArticleReaderSketchRepository extends JpaRepository<ArticleReaderSketch, Long> {
+
+    // Locked, so flushes of two nodes merge into the same row one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ArticleReaderSketch s where s.articleId in :articleIds")
+    List<ArticleReaderSketch> findAllForUpdate(@Param("articleIds") Collection<Long> articleIds);
+
+    @Query("select a.id from Article a join a.hashtags h where h.hashtagName = :hashtagName")
+    List<Long> findArticleIdsByHashtagName(@Param("hashtagName") String hashtagName);
+
+    @Modifying
+    @Query("delete from ArticleReaderSketch s where s.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+}
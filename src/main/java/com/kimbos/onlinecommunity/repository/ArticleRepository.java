@@ -2,16 +2,23 @@ package com.kimbos.onlinecommunity.repository;
 
 import com.kimbos.onlinecommunity.domain.Article;
 import com.kimbos.onlinecommunity.domain.QArticle;
+import com.kimbos.onlinecommunity.dto.ArticleIndexDto;
 import com.kimbos.onlinecommunity.repository.querydsl.ArticleRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.List;
 
 @RepositoryRestResource
 public interface ArticleRepository extends
@@ -29,7 +36,29 @@ public interface ArticleRepository extends
 
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
 
-    void deleteByIdAndUserAccount_UserId(long articleId, String userId);
+    long deleteByIdAndUserAccount_UserId(long articleId, String userId);
+
+    // Keyset over the primary key: every batch starts right after the last id, whatever the table size
+    @RestResource(exported = false)
+    @Query("""
+            select new com.kimbos.onlinecommunity.dto.ArticleIndexDto(a.id, a.title, a.content, a.createdAt)
+            from Article a where a.id > :lastId order by a.id
+            """)
+    List<ArticleIndexDto> findIndexRowsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // Incremented in the database, so concurrent comment writes never overwrite each other
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update Article a set a.commentCount = a.commentCount + :delta where a.id = :articleId")
+    int addCommentCount(@Param("articleId") Long articleId, @Param("delta") long delta);
+
+    @RestResource(exported = false)
+    @Modifying
+    @Query("""
+            update Article a set a.commentCount = (select count(c) from Comment c where c.article = a)
+            where a.commentCount <> (select count(c) from Comment c where c.article = a)
+            """)
+    int repairCommentCounts();
 
     @Override
     default void customize(QuerydslBindings bindings, QArticle root) {
@@ -0,0 +1,80 @@
+package com.kimbos.onlinecommunity.repository;
+
+import com.kimbos.onlinecommunity.domain.CommentClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+
+/**
+ * The native inserts declare the tables they read and write; otherwise Hibernate would empty every second-level cache
+ * region after each of them. {@code comment} must be among them, so comments still pending in the session are
+ * flushed before their paths are selected.
+ */
+public interface CommentClosureRepository extends JpaRepository<CommentClosure, CommentClosure.Key> {
+
+    // Path to itself plus one path from every ancestor of its parent, so the parent's paths must exist already
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = NATIVE_SPACES, value = "comment"),
+            @QueryHint(name = NATIVE_SPACES, value = "comment_closure")
+    })
+    @Query(value = """
+            insert into comment_closure (ancestor_id, descendant_id, depth)
+            select c.id, c.id, 0 from comment c where c.id = :commentId
+            union all
+            select cc.ancestor_id, c.id, cc.depth + 1
+            from comment c join comment_closure cc on cc.descendant_id = c.parent_comment_id
+            where c.id = :commentId
+            """, nativeQuery = true)
+    int insertPaths(@Param("commentId") Long commentId);
+
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = NATIVE_SPACES, value = "comment"),
+            @QueryHint(name = NATIVE_SPACES, value = "comment_closure")
+    })
+    @Query(value = """
+            insert into comment_closure (ancestor_id, descendant_id, depth)
+            select c.id, c.id, 0 from comment c
+            """, nativeQuery = true)
+    int insertAllSelfPaths();
+
+    // Extends every path of the given length by one parent-child step
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = NATIVE_SPACES, value = "comment"),
+            @QueryHint(name = NATIVE_SPACES, value = "comment_closure")
+    })
+    @Query(value = """
+            insert into comment_closure (ancestor_id, descendant_id, depth)
+            select cc.ancestor_id, c.id, cc.depth + 1
+            from comment c join comment_closure cc on cc.descendant_id = c.parent_comment_id
+            where cc.depth = :depth
+            """, nativeQuery = true)
+    int insertPathsExtending(@Param("depth") int depth);
+
+    /**
+     * Rebuild every path from {@code parentCommentId}, one statement per tree level.
+     */
+    default void rebuild() {
+        deleteAllInBatch();
+        insertAllSelfPaths();
+        int depth = 0;
+        while (insertPathsExtending(depth) > 0) {
+            depth++;
+        }
+    }
+
+    @Query("select cc.ancestorId from CommentClosure cc where cc.descendantId = :commentId and cc.depth > 0")
+    List<Long> findAncestorIds(@Param("commentId") Long commentId);
+
+    @Query("select cc.descendantId from CommentClosure cc where cc.ancestorId = :commentId")
+    List<Long> findSubtreeIds(@Param("commentId") Long commentId);
+}
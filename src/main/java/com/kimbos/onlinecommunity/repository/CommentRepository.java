@@ -2,25 +2,85 @@ package com.kimbos.onlinecommunity.repository;
 
 import com.kimbos.onlinecommunity.domain.Comment;
 import com.kimbos.onlinecommunity.domain.QComment;
+import com.kimbos.onlinecommunity.dto.CommentIndexDto;
+import com.kimbos.onlinecommunity.repository.querydsl.CommentRepositoryCustom;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @RepositoryRestResource
 public interface CommentRepository extends
         JpaRepository<Comment, Long>,
+        CommentRepositoryCustom,
         QuerydslPredicateExecutor<Comment>,
         QuerydslBinderCustomizer<QComment>
 {
 
     List<Comment> findByArticle_Id(Long articleId);
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+
+    // One page of the thread roots of an article, and one page of the direct replies of a comment
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
+    Page<Comment> findByArticle_IdAndParentCommentIdIsNull(Long articleId, Pageable pageable);
+
+    @RestResource(exported = false)
+    @EntityGraph(attributePaths = "userAccount")
+    Slice<Comment> findByParentCommentId(Long parentCommentId, Pageable pageable);
+
+    long deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+
+    @RestResource(exported = false)
+    @Query("select c.article.id from Comment c where c.id = :commentId")
+    Optional<Long> findArticleIdById(@Param("commentId") Long commentId);
+
+    @RestResource(exported = false)
+    @Query("select c.id from Comment c where c.article.id = :articleId")
+    List<Long> findIdsByArticleId(@Param("articleId") Long articleId);
+
+    // Keyset over the primary key, like ArticleRepository#findIndexRowsAfter
+    @RestResource(exported = false)
+    @Query("select new com.kimbos.onlinecommunity.dto.CommentIndexDto(c.id, c.content) from Comment c where c.id > :lastId order by c.id")
+    List<CommentIndexDto> findIndexRowsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // Incremented in the database, so concurrent replies never overwrite each other
+    @RestResource(exported = false)
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + :delta where c.id in :commentIds")
+    int addReplyCount(@Param("commentIds") Collection<Long> commentIds, @Param("delta") long delta);
+
+    @RestResource(exported = false)
+    @Modifying
+    @Query("""
+            update Comment c set c.replyCount = c.replyCount + :delta
+            where c.id in (select cc.ancestorId from CommentClosure cc where cc.descendantId = :commentId and cc.depth > 0)
+            """)
+    int addReplyCountToAncestors(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    @RestResource(exported = false)
+    @Modifying
+    @Query("""
+            update Comment c set c.replyCount =
+                (select count(cc) from CommentClosure cc where cc.ancestorId = c.id and cc.depth > 0)
+            where c.replyCount <>
+                (select count(cc) from CommentClosure cc where cc.ancestorId = c.id and cc.depth > 0)
+            """)
+    int repairReplyCounts();
 
     @Override
     default void customize(QuerydslBindings bindings, QComment root) {
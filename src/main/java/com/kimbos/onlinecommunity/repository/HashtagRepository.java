@@ -1,15 +1,28 @@
 package com.kimbos.onlinecommunity.repository;
 
 import com.kimbos.onlinecommunity.domain.Hashtag;
+import com.kimbos.onlinecommunity.dto.HashtagIndexDto;
 import com.kimbos.onlinecommunity.repository.querydsl.HashtagRepositoryCustom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.hibernate.annotations.QueryHints.NATIVE_SPACES;
+
 @RepositoryRestResource
 public interface HashtagRepository extends
         JpaRepository<Hashtag, Long>,
@@ -17,4 +30,40 @@ public interface HashtagRepository extends
         QuerydslPredicateExecutor<Hashtag> {
     Optional<Hashtag> findByHashtagName(String hashtagName);
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
-}
\ No newline at end of file
+
+    // Keyset over the primary key, like ArticleRepository.findIndexRowsAfter
+    @RestResource(exported = false)
+    @Query("""
+            select new com.kimbos.onlinecommunity.dto.HashtagIndexDto(h.id, h.hashtagName, h.articleCount)
+            from Hashtag h where h.id > :lastId order by h.id
+            """)
+    List<HashtagIndexDto> findIndexRowsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // Share-locked until the article tagged with them commits, so the garbage collector can't delete them in between
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select h from Hashtag h where h.hashtagName in :hashtagNames")
+    List<Hashtag> findByHashtagNameInForShare(@Param("hashtagNames") Collection<String> hashtagNames);
+
+    /**
+     * Query space of {@link #addArticleCount}. No entity maps to it: declaring {@code hashtag} would make Hibernate
+     * empty the whole hashtag cache region after every article write, so callers evict the rows they changed instead.
+     */
+    String ARTICLE_COUNT_SPACE = "hashtag_article_count";
+
+    // Incremented in the database, so concurrent article writes never overwrite each other.
+    // The session is flushed first, so hashtags persisted earlier in the transaction are counted too.
+    @RestResource(exported = false)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = NATIVE_SPACES, value = ARTICLE_COUNT_SPACE))
+    @Query(value = "update hashtag set article_count = article_count + :delta where hashtag_name in (:hashtagNames)", nativeQuery = true)
+    int addArticleCount(@Param("hashtagNames") Collection<String> hashtagNames, @Param("delta") long delta);
+
+    @RestResource(exported = false)
+    @Modifying
+    @Query("""
+            update Hashtag h set h.articleCount = (select count(a) from Article a join a.hashtags t where t = h)
+            where h.articleCount <> (select count(a) from Article a join a.hashtags t where t = h)
+            """)
+    int repairArticleCounts();
+}
@@ -0,0 +1,7 @@
+package com.kimbos.onlinecommunity.repository;
+
+import com.kimbos.onlinecommunity.domain.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
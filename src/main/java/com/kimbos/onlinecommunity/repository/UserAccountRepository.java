@@ -1,7 +1,26 @@
 package com.kimbos.onlinecommunity.repository;
 
 import com.kimbos.onlinecommunity.domain.UserAccount;
+import com.kimbos.onlinecommunity.dto.NicknameIndexDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface UserAccountRepository extends JpaRepository<UserAccount, String> {
+
+    @Query("select u.nickname from UserAccount u where u.userId = :userId")
+    Optional<String> findNicknameByUserId(@Param("userId") String userId);
+
+    // Keyset over the primary key, so every batch starts right after the last user id
+    @RestResource(exported = false)
+    @Query("""
+            select new com.kimbos.onlinecommunity.dto.NicknameIndexDto(u.userId, u.nickname)
+            from UserAccount u where u.userId > :lastUserId and u.nickname is not null order by u.userId
+            """)
+    List<NicknameIndexDto> findNicknamesAfter(@Param("lastUserId") String lastUserId, Pageable pageable);
 }
@@ -1,11 +1,15 @@
 package com.kimbos.onlinecommunity.repository.querydsl;
 
 import com.kimbos.onlinecommunity.domain.Article;
+import com.kimbos.onlinecommunity.dto.ArticleCursor;
+import com.kimbos.onlinecommunity.dto.ArticleSummaryDto;
+import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepositoryCustom {
 
@@ -13,4 +17,37 @@ public interface ArticleRepositoryCustom {
     List<String> findAllDistinctHashtags();
 
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    /**
+     * Keyset page ordered by {@code createdAt DESC, id DESC}, starting right after the cursor.
+     * A {@code null} cursor returns the first page.
+     */
+    List<Article> findByHashtagNamesAfter(Collection<String> hashtagNames, ArticleCursor cursor, int limit);
+
+    /**
+     * List rows without the article content: one query for the columns, one for the hashtags of the page.
+     */
+    Page<ArticleSummaryDto> findSummaries(Predicate predicate, Pageable pageable);
+
+    List<ArticleSummaryDto> findSummariesAfter(Predicate predicate, ArticleCursor cursor, int limit);
+
+    /**
+     * Rows come back in no particular order.
+     */
+    List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds);
+
+    /**
+     * Article with its author and hashtags in a single query, for the detail page.
+     */
+    Optional<Article> findWithDetailsById(Long articleId);
+
+    /**
+     * Id of the article right before the position in {@code createdAt, id} order, i.e. the next older one.
+     */
+    Optional<Long> findPreviousId(ArticleCursor position);
+
+    /**
+     * Id of the article right after the position in {@code createdAt, id} order, i.e. the next newer one.
+     */
+    Optional<Long> findNextId(ArticleCursor position);
 }
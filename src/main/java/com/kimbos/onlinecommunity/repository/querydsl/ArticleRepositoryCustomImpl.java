@@ -3,14 +3,22 @@ package com.kimbos.onlinecommunity.repository.querydsl;
 import com.kimbos.onlinecommunity.domain.Article;
 import com.kimbos.onlinecommunity.domain.QArticle;
 import com.kimbos.onlinecommunity.domain.QHashtag;
+import com.kimbos.onlinecommunity.dto.ArticleCursor;
+import com.kimbos.onlinecommunity.dto.ArticleSummaryDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
 
@@ -41,4 +49,158 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
         return new PageImpl<>(articles, pageable, query.fetchCount());
     }
 
+    @Override
+    public List<Article> findByHashtagNamesAfter(Collection<String> hashtagNames, ArticleCursor cursor, int limit) {
+        QHashtag hashtag = QHashtag.hashtag;
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .distinct()
+                .innerJoin(article.hashtags, hashtag)
+                .where(hashtag.hashtagName.in(hashtagNames), after(article, cursor))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Page<ArticleSummaryDto> findSummaries(Predicate predicate, Pageable pageable) {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        JPQLQuery<Tuple> query = summaryQuery(predicate);
+        for (Sort.Order order : pageable.getSort()) {
+            if (order.getProperty().equals("hashtags")) {
+                // Same row semantics as sorting the entity query by its hashtag collection
+                query.leftJoin(article.hashtags, hashtag)
+                        .orderBy(new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC, hashtag.hashtagName));
+            } else {
+                getQuerydsl().applySorting(Sort.by(order), query);
+            }
+        }
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+
+        long total = from(article).where(predicate).select(article.count()).fetchOne();
+
+        return new PageImpl<>(withHashtagNames(query.fetch()), pageable, total);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesAfter(Predicate predicate, ArticleCursor cursor, int limit) {
+        QArticle article = QArticle.article;
+
+        List<Tuple> rows = summaryQuery(predicate)
+                .where(after(article, cursor))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(limit)
+                .fetch();
+
+        return withHashtagNames(rows);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findSummariesByIds(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        return withHashtagNames(summaryQuery(QArticle.article.id.in(articleIds)).fetch());
+    }
+
+    @Override
+    public Optional<Article> findWithDetailsById(Long articleId) {
+        QArticle article = QArticle.article;
+
+        Article result = from(article)
+                .distinct()
+                .innerJoin(article.userAccount).fetchJoin()
+                .leftJoin(article.hashtags).fetchJoin()
+                .where(article.id.eq(articleId))
+                .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
+
+    @Override
+    public Optional<Long> findPreviousId(ArticleCursor position) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .select(article.id)
+                .where(after(article, position))
+                .orderBy(article.createdAt.desc(), article.id.desc())
+                .limit(1)
+                .fetchOne());
+    }
+
+    @Override
+    public Optional<Long> findNextId(ArticleCursor position) {
+        QArticle article = QArticle.article;
+
+        return Optional.ofNullable(from(article)
+                .select(article.id)
+                .where(article.createdAt.gt(position.createdAt())
+                        .or(article.createdAt.eq(position.createdAt()).and(article.id.gt(position.id()))))
+                .orderBy(article.createdAt.asc(), article.id.asc())
+                .limit(1)
+                .fetchOne());
+    }
+
+    private JPQLQuery<Tuple> summaryQuery(Predicate predicate) {
+        QArticle article = QArticle.article;
+
+        return from(article)
+                .where(predicate)
+                .select(
+                        article.id,
+                        article.title,
+                        article.createdAt,
+                        article.userAccount.userId,
+                        article.userAccount.email,
+                        article.userAccount.nickname,
+                        article.commentCount
+                );
+    }
+
+    private List<ArticleSummaryDto> withHashtagNames(List<Tuple> rows) {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        Set<Long> articleIds = rows.stream().map(row -> row.get(article.id)).collect(Collectors.toSet());
+        Map<Long, Set<String>> hashtagNames = articleIds.isEmpty() ? Map.of() : from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .where(article.id.in(articleIds))
+                .select(article.id, hashtag.hashtagName)
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(article.id),
+                        Collectors.mapping(row -> row.get(hashtag.hashtagName), Collectors.toUnmodifiableSet())
+                ));
+
+        return rows.stream()
+                .map(row -> ArticleSummaryDto.of(
+                        row.get(article.id),
+                        row.get(article.title),
+                        hashtagNames.getOrDefault(row.get(article.id), Set.of()),
+                        row.get(article.createdAt),
+                        row.get(article.userAccount.userId),
+                        row.get(article.userAccount.email),
+                        row.get(article.userAccount.nickname),
+                        row.get(article.commentCount)
+                ))
+                .toList();
+    }
+
+    private static BooleanExpression after(QArticle article, ArticleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return article.createdAt.lt(cursor.createdAt())
+                .or(article.createdAt.eq(cursor.createdAt()).and(article.id.lt(cursor.id())));
+    }
+
 }
@@ -0,0 +1,14 @@
+package com.kimbos.onlinecommunity.repository.querydsl;
+
+import com.kimbos.onlinecommunity.domain.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface CommentRepositoryCustom {
+
+    /**
+     * One page of the replies down to {@code maxDepth} levels below the comment, with their authors.
+     * Replies at any depth come in one indexed read of the closure table, instead of one request per level.
+     */
+    Slice<Comment> findSubtree(Long commentId, int maxDepth, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.kimbos.onlinecommunity.repository.querydsl;
+
+import com.kimbos.onlinecommunity.domain.Comment;
+import com.kimbos.onlinecommunity.domain.QComment;
+import com.kimbos.onlinecommunity.domain.QCommentClosure;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+
+public class CommentRepositoryCustomImpl extends QuerydslRepositorySupport implements CommentRepositoryCustom {
+
+    public CommentRepositoryCustomImpl() {
+        super(Comment.class);
+    }
+
+    @Override
+    public Slice<Comment> findSubtree(Long commentId, int maxDepth, Pageable pageable) {
+        QComment comment = QComment.comment;
+        QCommentClosure closure = QCommentClosure.commentClosure;
+
+        JPQLQuery<Comment> query = from(comment)
+                .innerJoin(comment.userAccount).fetchJoin()
+                .where(comment.id.in(JPAExpressions
+                        .select(closure.descendantId)
+                        .from(closure)
+                        .where(closure.ancestorId.eq(commentId), closure.depth.between(1, maxDepth))));
+        getQuerydsl().applySorting(pageable.getSort(), query);
+        // One row past the page tells whether there is a next one, without counting the subtree
+        List<Comment> replies = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = replies.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? replies.subList(0, pageable.getPageSize()) : replies, pageable, hasNext);
+    }
+}
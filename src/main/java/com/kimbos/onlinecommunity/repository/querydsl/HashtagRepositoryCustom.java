@@ -1,7 +1,31 @@
 package com.kimbos.onlinecommunity.repository.querydsl;
 
+import com.kimbos.onlinecommunity.domain.Hashtag;
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface HashtagRepositoryCustom {
-    List<String> findAllHashtagNames();
+
+    /**
+     * Hashtags starting with the prefix, or every hashtag when it is blank, most used first, starting right after the
+     * cursor. A {@code null} cursor returns the first page.
+     * Both sort keys are descending, so a backward scan of the {@code (articleCount, hashtagName)} index returns the
+     * rows in order and stops after {@code limit} of them. No count query runs.
+     */
+    List<HashtagSummaryDto> findDirectoryAfter(String prefix, HashtagCursor cursor, int limit);
+
+    /**
+     * Hashtags among the given ids that no article uses anymore.
+     * The rows stay locked until the transaction ends, so no article can be tagged with them before they are deleted.
+     */
+    List<Hashtag> findOrphans(Collection<Long> hashtagIds);
+
+    /**
+     * Delete hashtags among the given ids that no article uses, in one anti-join statement.
+     * A hashtag that got attached to an article in the meantime is kept.
+     */
+    long deleteOrphans(Collection<Long> hashtagIds);
 }
@@ -2,8 +2,13 @@ package com.kimbos.onlinecommunity.repository.querydsl;
 
 import com.kimbos.onlinecommunity.domain.Hashtag;
 import com.kimbos.onlinecommunity.domain.QHashtag;
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
+import com.querydsl.core.types.Projections;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
@@ -13,11 +18,38 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
     }
 
     @Override
-    public List<String> findAllHashtagNames() {
+    public List<HashtagSummaryDto> findDirectoryAfter(String prefix, HashtagCursor cursor, int limit) {
         QHashtag hashtag = QHashtag.hashtag;
 
         return from(hashtag)
-                .select(hashtag.hashtagName)
+                .where(
+                        prefix == null || prefix.isBlank() ? null : hashtag.hashtagName.startsWith(prefix.strip()),
+                        cursor == null ? null : hashtag.articleCount.lt(cursor.articleCount())
+                                .or(hashtag.articleCount.eq(cursor.articleCount()).and(hashtag.hashtagName.lt(cursor.hashtagName())))
+                )
+                .select(Projections.constructor(HashtagSummaryDto.class, hashtag.hashtagName, hashtag.articleCount))
+                .orderBy(hashtag.articleCount.desc(), hashtag.hashtagName.desc())
+                .limit(limit)
                 .fetch();
     }
+
+    @Override
+    public List<Hashtag> findOrphans(Collection<Long> hashtagIds) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return getQuerydsl().createQuery(hashtag)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .select(hashtag)
+                .where(hashtag.id.in(hashtagIds), hashtag.articles.isEmpty())
+                .fetch();
+    }
+
+    @Override
+    public long deleteOrphans(Collection<Long> hashtagIds) {
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return delete(hashtag)
+                .where(hashtag.id.in(hashtagIds), hashtag.articles.isEmpty())
+                .execute();
+    }
 }
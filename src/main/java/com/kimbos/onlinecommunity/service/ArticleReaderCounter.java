@@ -0,0 +1,172 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kimbos.onlinecommunity.domain.ArticleReaderSketch;
+import com.kimbos.onlinecommunity.repository.ArticleReaderSketchRepository;
+import com.kimbos.onlinecommunity.utils.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Estimated distinct readers per article, and per hashtag as the union of its articles' readers.
+ * Reads go into an in-memory {@link HyperLogLog} per article, sparse until it has seen a few hundred readers, and
+ * {@link #flush()} periodically merges them into the {@link ArticleReaderSketch} rows. Merging is idempotent, so a
+ * sketch that is merged twice, by a retry or by a read racing a flush, never counts a reader twice.
+ * <p>
+ * The stored sketches of a hashtag's articles are merged once and kept until the next flush changes them, so asking
+ * for a hashtag again only adds the pending readers of its articles.
+ */
+@Slf4j
+@Component
+public class ArticleReaderCounter {
+
+    static final int BATCH_SIZE = 200;
+    static final int HASHTAG_CACHE_SIZE = 1_000;
+
+    private final ArticleReaderSketchRepository articleReaderSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private final Cache<String, HashtagReaders> hashtagReaders = Caffeine.newBuilder()
+            .maximumSize(HASHTAG_CACHE_SIZE)
+            .build();
+    private final AtomicLong flushes = new AtomicLong();
+
+    public ArticleReaderCounter(
+            ArticleReaderSketchRepository articleReaderSketchRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.articleReaderSketchRepository = articleReaderSketchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param reader anything that stays the same for one reader, e.g. the username or a session id
+     */
+    public void record(Long articleId, String reader) {
+        pending.computeIfAbsent(articleId, id -> new HyperLogLog()).add(reader);
+    }
+
+    public long uniqueReaders(Long articleId) {
+        return readersOf(List.of(articleId)).estimate();
+    }
+
+    public long uniqueReadersOfHashtag(String hashtagName) {
+        HashtagReaders stored = hashtagReaders.getIfPresent(hashtagName);
+        if (stored == null) {
+            long stamp = flushes.get();
+            List<Long> articleIds = articleReaderSketchRepository.findArticleIdsByHashtagName(hashtagName);
+            stored = new HashtagReaders(articleIds, storedReadersOf(articleIds));
+            hashtagReaders.put(hashtagName, stored);
+            // Checked after the put, so a flush running concurrently either clears the entry or fails this check
+            if (flushes.get() != stamp) {
+                hashtagReaders.invalidate(hashtagName);
+            }
+        }
+
+        HyperLogLog readers = HyperLogLog.fromBytes(stored.readers().toBytes());
+        mergePending(stored.articleIds(), readers);
+        return readers.estimate();
+    }
+
+    /**
+     * Drop the readers of a deleted article, pending and stored.
+     */
+    public void forget(Long articleId) {
+        pending.remove(articleId);
+        articleReaderSketchRepository.deleteByArticleId(articleId);
+    }
+
+    /**
+     * Articles whose readers are not merged into the database yet.
+     */
+    public int pendingArticleCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${community.unique-readers.flush-interval:PT1M}")
+    public synchronized void flush() {
+        List<Long> articleIds = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < articleIds.size(); from += BATCH_SIZE) {
+            Map<Long, HyperLogLog> batch = new TreeMap<>();
+            for (Long articleId : articleIds.subList(from, Math.min(from + BATCH_SIZE, articleIds.size()))) {
+                HyperLogLog readers = pending.remove(articleId);
+                if (readers != null) {
+                    batch.put(articleId, readers);
+                }
+            }
+            Map<Long, Long> versions = batch.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().version()));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> mergeIntoDatabase(batch));
+            } catch (RuntimeException e) {
+                log.warn("Article readers could not be flushed and stay pending - articles: {}", batch.size(), e);
+                batch.forEach(this::putBack);
+                continue;
+            }
+            flushes.incrementAndGet();
+            hashtagReaders.invalidateAll();
+            // A reader added after the sketch was taken out may have missed the write; it goes out with the next flush
+            batch.forEach((articleId, readers) -> {
+                if (readers.version() != versions.get(articleId)) {
+                    putBack(articleId, readers);
+                }
+            });
+        }
+    }
+
+    private void mergeIntoDatabase(Map<Long, HyperLogLog> batch) {
+        Map<Long, ArticleReaderSketch> sketches = articleReaderSketchRepository.findAllForUpdate(batch.keySet()).stream()
+                .collect(Collectors.toMap(ArticleReaderSketch::getArticleId, Function.identity()));
+        List<ArticleReaderSketch> merged = new ArrayList<>(batch.size());
+        batch.forEach((articleId, readers) -> {
+            ArticleReaderSketch sketch = sketches.getOrDefault(articleId, ArticleReaderSketch.of(articleId));
+            sketch.merge(readers);
+            merged.add(sketch);
+        });
+        articleReaderSketchRepository.saveAll(merged);
+    }
+
+    private void putBack(Long articleId, HyperLogLog readers) {
+        pending.merge(articleId, readers, (current, late) -> {
+            current.merge(late);
+            return current;
+        });
+    }
+
+    private HyperLogLog readersOf(Collection<Long> articleIds) {
+        HyperLogLog readers = storedReadersOf(articleIds);
+        mergePending(articleIds, readers);
+        return readers;
+    }
+
+    private HyperLogLog storedReadersOf(Collection<Long> articleIds) {
+        HyperLogLog readers = new HyperLogLog();
+        if (!articleIds.isEmpty()) {
+            articleReaderSketchRepository.findAllById(articleIds)
+                    .forEach(sketch -> readers.merge(sketch.toHyperLogLog()));
+        }
+        return readers;
+    }
+
+    private void mergePending(Collection<Long> articleIds, HyperLogLog readers) {
+        articleIds.stream()
+                .map(pending::get)
+                .filter(Objects::nonNull)
+                .forEach(readers::merge);
+    }
+
+    private record HashtagReaders(List<Long> articleIds, HyperLogLog readers) {}
+}
@@ -2,24 +2,41 @@ package com.kimbos.onlinecommunity.service;
 
 import com.kimbos.onlinecommunity.domain.Article;
 import com.kimbos.onlinecommunity.domain.Hashtag;
+import com.kimbos.onlinecommunity.domain.QArticle;
 import com.kimbos.onlinecommunity.domain.UserAccount;
 import com.kimbos.onlinecommunity.domain.enums.SearchType;
+import com.kimbos.onlinecommunity.domain.enums.TrendWindow;
+import com.kimbos.onlinecommunity.dto.ArticleCursor;
 import com.kimbos.onlinecommunity.dto.ArticleDto;
-import com.kimbos.onlinecommunity.dto.ArticleWithCommentsDto;
+import com.kimbos.onlinecommunity.dto.ArticleSummaryDto;
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
+import com.kimbos.onlinecommunity.dto.TrendingHashtagDto;
 import com.kimbos.onlinecommunity.repository.ArticleRepository;
-import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.repository.CommentRepository;
 import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchCache;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchIndex;
+import com.kimbos.onlinecommunity.service.search.CommentSearchIndex;
+import com.kimbos.onlinecommunity.utils.HashtagScanner;
+import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,28 +45,47 @@ import java.util.stream.Collectors;
 @Service
 public class ArticleService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final HashtagService hashtagService;
     private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
     private final UserAccountRepository userAccountRepository;
-    private final HashtagRepository hashtagRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final CommentSearchIndex commentSearchIndex;
+    private final HashtagGarbageCollector hashtagGarbageCollector;
+    private final ArticleSearchCache articleSearchCache;
+    private final TrendingHashtags trendingHashtags;
+    private final ArticleReaderCounter articleReaderCounter;
 
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    public Page<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            return articleRepository.findSummaries(null, pageable);
         }
         return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(
-                            Arrays.stream(searchKeyword.split(" ")).toList(),
-                            pageable
-                    )
-                    .map(ArticleDto::from);
+            case TITLE, CONTENT -> searchIndexedArticles(searchType, searchKeyword, pageable);
+            case ID, NICKNAME, HASHTAG -> searchCachedArticles(searchType, searchKeyword, pageable);
+        };
+    }
+
+    /**
+     * Cursor mode of {@link #searchArticles(SearchType, String, Pageable)}.
+     * Every page costs the same no matter how deep it is, and no count query runs.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleSummaryDto> searchArticles(SearchType searchType, String searchKeyword, ArticleCursor cursor, int size) {
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return toSlice(articleRepository.findSummariesAfter(null, cursor, size + 1), size);
+        }
+
+        List<ArticleSummaryDto> articles = switch (searchType) {
+            case TITLE, CONTENT -> findSummariesInOrder(articleSearchIndex.searchAfter(searchType, searchKeyword, cursor, size + 1));
+            case ID, NICKNAME, HASHTAG -> articleRepository.findSummariesAfter(searchPredicate(searchType, searchKeyword), cursor, size + 1);
         };
+
+        return toSlice(articles, size);
     }
 
     public void saveArticle(ArticleDto articleDto) {
@@ -58,7 +94,12 @@ public class ArticleService {
 
         Article article = articleDto.toEntity(userAccount);
         article.addHashtags(hashtags);
-        articleRepository.save(article);
+        articleSearchIndex.index(articleRepository.save(article));
+        Set<String> hashtagNames = hashtagNamesOf(hashtags);
+        hashtagService.addArticleCount(hashtags, 1);
+        articleSearchCache.evictHashtags(hashtagNames);
+        articleSearchCache.evictAuthorSearches();
+        trendingHashtags.articleTagged(hashtagNames);
     }
 
     public void updateArticle(Long articleId, ArticleDto articleDto) {
@@ -68,18 +109,20 @@ public class ArticleService {
 
             if (article.getUserAccount().equals(userAccount)) {
                 if (articleDto.title() != null) { article.setTitle(articleDto.title()); }
-                if (articleDto.content() != null) { article.setContent(articleDto.content()); }
-
-                Set<Long> hashtagIds = article.getHashtags().stream()
-                        .map(Hashtag::getId)
-                        .collect(Collectors.toUnmodifiableSet());
-                article.clearHashtags();
-                articleRepository.flush();
+                if (articleDto.content() != null) {
+                    Set<String> hashtagNames = hashtagService.parseHashtagNames(articleDto.content());
+                    Set<String> oldNames = hashtagNamesOf(article.getHashtags());
+                    Set<String> touchedNames = new HashSet<>(oldNames);
+                    touchedNames.addAll(hashtagNames);
 
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-
-                Set<Hashtag> hashtags = renewHashtagsFromContent(articleDto.content());
-                article.addHashtags(hashtags);
+                    article.setContent(articleDto.content());
+                    reconcileHashtags(article, hashtagNames);
+                    articleSearchCache.evictHashtags(touchedNames);
+                    trendingHashtags.articleTagged(hashtagNames.stream()
+                            .filter(hashtagName -> !oldNames.contains(hashtagName))
+                            .toList());
+                }
+                articleSearchIndex.index(article);
             }
         } catch (EntityNotFoundException e) {
             log.warn("Article Update Failure: There is no article match - dto: {}", e.getLocalizedMessage());
@@ -88,61 +131,206 @@ public class ArticleService {
 
     public void deleteArticle(long articleId, String userId) {
         Article article = articleRepository.getReferenceById(articleId);
-        Set<Long> hashtagIds = article.getHashtags().stream()
+        Set<Hashtag> hashtags = Set.copyOf(article.getHashtags());
+        Set<Long> hashtagIds = hashtags.stream()
                 .map(Hashtag::getId)
                 .collect(Collectors.toUnmodifiableSet());
+        Set<String> hashtagNames = hashtagNamesOf(hashtags);
+        // Read before the delete, the comments go with the article by cascade
+        List<Long> commentIds = commentRepository.findIdsByArticleId(articleId);
 
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
-        articleRepository.flush();
-
-        hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
+        long deletedCount = articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        if (deletedCount > 0) {
+            articleSearchIndex.remove(articleId);
+            commentIds.forEach(commentSearchIndex::remove);
+            hashtagService.addArticleCount(hashtags, -1);
+            hashtagGarbageCollector.enqueue(hashtagIds);
+            articleSearchCache.evictHashtags(hashtagNames);
+            articleSearchCache.evictAuthorSearches();
+            articleReaderCounter.forget(articleId);
+        }
     }
 
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesByHashtag(String hashtagName, Pageable pageable) {
-        if (hashtagName == null || hashtagName.isBlank()) {
+    public Page<ArticleDto> searchArticlesByHashtag(String searchValue, Pageable pageable) {
+        String hashtagName = HashtagScanner.normalize(searchValue);
+        if (hashtagName.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        return articleRepository.findByHashtagNames(List.of(hashtagName), pageable)
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.HASHTAG, hashtagName, pageable);
+        Optional<Page<Long>> cachedIds = articleSearchCache.get(key);
+        if (cachedIds.isPresent()) {
+            return new PageImpl<>(findArticlesInOrder(cachedIds.get().getContent()), pageable, cachedIds.get().getTotalElements());
+        }
+
+        long stamp = articleSearchCache.stamp();
+        Page<ArticleDto> articles = articleRepository.findByHashtagNames(List.of(hashtagName), pageable)
                 .map(ArticleDto::from);
+        articleSearchCache.put(key, articles.map(ArticleDto::id), stamp);
+
+        return articles;
     }
 
-    public List<String> getHashtags() {
-        return hashtagRepository.findAllHashtagNames();
+    @Transactional(readOnly = true)
+    public Slice<ArticleDto> searchArticlesByHashtag(String searchValue, ArticleCursor cursor, int size) {
+        String hashtagName = HashtagScanner.normalize(searchValue);
+        if (hashtagName.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size, KEYSET_SORT), false);
+        }
+
+        List<ArticleDto> articles = articleRepository.findByHashtagNamesAfter(List.of(hashtagName), cursor, size + 1).stream()
+                .map(ArticleDto::from)
+                .toList();
+
+        return toSlice(articles, size);
+    }
+
+    public Slice<HashtagSummaryDto> getHashtagDirectory(String prefix, HashtagCursor cursor, int size) {
+        return hashtagService.getHashtagDirectory(prefix, cursor, size);
+    }
+
+    /**
+     * Count a search of the hashtag for the trending hashtags.
+     * Callers only count searches that found articles, so names nobody uses never trend.
+     */
+    public void countHashtagSearch(String searchValue) {
+        String hashtagName = HashtagScanner.normalize(searchValue);
+        if (!hashtagName.isEmpty()) {
+            trendingHashtags.searched(hashtagName);
+        }
+    }
+
+    public List<TrendingHashtagDto> getTrendingHashtags(TrendWindow trendWindow, int limit) {
+        return trendingHashtags.top(trendWindow, limit);
     }
 
     @Transactional(readOnly = true)
     public ArticleDto getArticle(Long articleId) {
-        return articleRepository.findById(articleId)
+        // Author and hashtags come in the same query; comments are paged separately by CommentService
+        return articleRepository.findWithDetailsById(articleId)
                 .map(ArticleDto::from)
                 .orElseThrow(() -> new EntityNotFoundException("There is no article - articleId: " + articleId));
     }
 
+    /**
+     * Older neighbour of the article in the list order, for the detail page's previous link.
+     */
     @Transactional(readOnly = true)
-    public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
-                .orElseThrow(() -> new EntityNotFoundException("There is no article - articleId: " + articleId));
+    public Optional<Long> getPreviousArticleId(ArticleDto article) {
+        return articleRepository.findPreviousId(ArticleCursor.of(article.createdAt(), article.id()));
     }
 
-    public long getArticleCount() {
-        return articleRepository.count();
+    /**
+     * Newer neighbour of the article in the list order, for the detail page's next link.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getNextArticleId(ArticleDto article) {
+        return articleRepository.findNextId(ArticleCursor.of(article.createdAt(), article.id()));
     }
 
-    private Set<Hashtag> renewHashtagsFromContent(String content) {
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        Set<String> existingHashtagNames = hashtags.stream()
+    private Page<ArticleSummaryDto> searchIndexedArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        Page<Long> articleIds = articleSearchIndex.search(searchType, searchKeyword, pageable);
+
+        return new PageImpl<>(findSummariesInOrder(articleIds.getContent()), pageable, articleIds.getTotalElements());
+    }
+
+    /**
+     * Read-through {@link ArticleSearchCache}: only the id page is cached, the rows are always loaded fresh by id.
+     */
+    private Page<ArticleSummaryDto> searchCachedArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(searchType, searchKeyword, pageable);
+        Optional<Page<Long>> cachedIds = articleSearchCache.get(key);
+        if (cachedIds.isPresent()) {
+            return new PageImpl<>(findSummariesInOrder(cachedIds.get().getContent()), pageable, cachedIds.get().getTotalElements());
+        }
+
+        long stamp = articleSearchCache.stamp();
+        Page<ArticleSummaryDto> articles = articleRepository.findSummaries(searchPredicate(searchType, searchKeyword), pageable);
+        articleSearchCache.put(key, articles.map(ArticleSummaryDto::id), stamp);
+
+        return articles;
+    }
+
+    private Predicate searchPredicate(SearchType searchType, String searchKeyword) {
+        QArticle article = QArticle.article;
+
+        return switch (searchType) {
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtags.any().hashtagName.in(Arrays.asList(searchKeyword.split(" ")));
+            default -> throw new IllegalArgumentException("Search type is served by the search index - searchType: " + searchType);
+        };
+    }
+
+    /**
+     * Load list rows keeping the order of the given ids, skipping articles deleted after the ids were read.
+     */
+    private List<ArticleSummaryDto> findSummariesInOrder(List<Long> articleIds) {
+        Map<Long, ArticleSummaryDto> articles = articleRepository.findSummariesByIds(articleIds).stream()
+                .collect(Collectors.toMap(ArticleSummaryDto::id, Function.identity()));
+
+        return articleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<ArticleDto> findArticlesInOrder(List<Long> articleIds) {
+        Map<Long, Article> articles = articleRepository.findAllById(articleIds).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+
+        return articleIds.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .map(ArticleDto::from)
+                .toList();
+    }
+
+    private static Set<String> hashtagNamesOf(Collection<Hashtag> hashtags) {
+        return hashtags.stream()
                 .map(Hashtag::getHashtagName)
                 .collect(Collectors.toUnmodifiableSet());
+    }
 
-        hashtagNamesInContent.forEach(newHashtagName -> {
-            if (!existingHashtagNames.contains(newHashtagName)) {
-                hashtags.add(Hashtag.of(newHashtagName));
+    private static <T> Slice<T> toSlice(List<T> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = rows.stream().limit(size).toList();
+
+        return new SliceImpl<>(content, PageRequest.of(0, size, KEYSET_SORT), hasNext);
+    }
+
+    /**
+     * Touch only the join rows of hashtags that were added or removed, so an edit that keeps the tags writes none.
+     */
+    private void reconcileHashtags(Article article, Set<String> hashtagNames) {
+        List<Hashtag> removedHashtags = new ArrayList<>();
+        Set<String> keptNames = new HashSet<>();
+        for (Hashtag hashtag : article.getHashtags()) {
+            if (hashtagNames.contains(hashtag.getHashtagName())) {
+                keptNames.add(hashtag.getHashtagName());
+            } else {
+                removedHashtags.add(hashtag);
             }
-        });
+        }
 
-        return hashtags;
+        if (!removedHashtags.isEmpty()) {
+            article.removeHashtags(removedHashtags);
+            hashtagService.addArticleCount(removedHashtags, -1);
+            hashtagGarbageCollector.enqueue(removedHashtags.stream().map(Hashtag::getId).toList());
+        }
+
+        Set<String> addedNames = hashtagNames.stream()
+                .filter(hashtagName -> !keptNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
+        if (!addedNames.isEmpty()) {
+            Set<Hashtag> addedHashtags = hashtagService.findOrCreateHashtags(addedNames);
+            article.addHashtags(addedHashtags);
+            hashtagService.addArticleCount(addedHashtags, 1);
+        }
+    }
+
+    private Set<Hashtag> renewHashtagsFromContent(String content) {
+        return hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(content));
     }
 }
@@ -0,0 +1,120 @@
+package com.kimbos.onlinecommunity.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Article view counts, buffered in memory so a page view never writes to the database.
+ * Views only add to a per-article {@link LongAdder}; {@link #flush()} periodically writes what was added since the
+ * last flush, for every viewed article in one JDBC batch of {@code view_count = view_count + ?} updates.
+ * <p>
+ * A failed flush leaves the views pending for the next one, and the last flush runs on shutdown. Views of a node that
+ * dies without shutting down are lost, which is the price of not writing per view.
+ */
+@Slf4j
+@Component
+public class ArticleViewCounter implements MeterBinder {
+
+    static final String ADD_VIEW_COUNT = "update article set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Views> views = new ConcurrentHashMap<>();
+
+    public ArticleViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("article.views.pending", this, ArticleViewCounter::pendingCount)
+                .description("Article views counted in memory but not written to the database yet")
+                .register(registry);
+    }
+
+    public void increment(Long articleId) {
+        views.computeIfAbsent(articleId, id -> new Views()).added.increment();
+    }
+
+    /**
+     * Views not written to the database yet.
+     */
+    public long pendingCount() {
+        return views.values().stream().mapToLong(Views::pending).sum();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${community.view-count.flush-interval:PT10S}")
+    public synchronized void flush() {
+        List<Long> articleIds = new ArrayList<>();
+        List<Long> sums = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        views.forEach((articleId, articleViews) -> {
+            long sum = articleViews.added.sum();
+            long delta = sum - articleViews.flushed;
+            if (delta > 0) {
+                articleIds.add(articleId);
+                sums.add(sum);
+                rows.add(new Object[]{delta, articleId});
+            } else {
+                retire(articleId, articleViews);
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // Same row order on every node, so concurrent flushes can't deadlock on each other
+        rows.sort((a, b) -> Long.compare((Long) a[1], (Long) b[1]));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, rows));
+        } catch (RuntimeException e) {
+            log.warn("Article views could not be flushed and stay pending - articles: {}", rows.size(), e);
+            return;
+        }
+
+        for (int i = 0; i < articleIds.size(); i++) {
+            views.get(articleIds.get(i)).flushed = sums.get(i);
+        }
+        log.debug("Article views are flushed - articles: {}", rows.size());
+    }
+
+    // Drops an article nobody viewed since the last flush, so the map only holds recently viewed articles
+    private void retire(Long articleId, Views articleViews) {
+        if (!views.remove(articleId, articleViews)) {
+            return;
+        }
+        // A view that landed between reading the sum and the removal is carried over to a new entry
+        long late = articleViews.pending();
+        if (late > 0) {
+            views.computeIfAbsent(articleId, id -> new Views()).added.add(late);
+        }
+    }
+
+
+    private static class Views {
+
+        private final LongAdder added = new LongAdder();
+        // Only written by flush, after the database has the views up to this sum
+        private volatile long flushed;
+
+        long pending() {
+            return added.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.repository.ArticleRepository;
+import com.kimbos.onlinecommunity.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recomputes {@code Article.commentCount} and {@code Comment.replyCount} from the comment rows and the closure table.
+ * Comment writes keep both counters up to date; this only repairs the rows that drifted, e.g. seeded data or rows
+ * changed outside of the service.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CommentCountRepairer {
+
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${community.comment-count.repair-interval:PT1H}",
+            fixedDelayString = "${community.comment-count.repair-interval:PT1H}"
+    )
+    @Transactional
+    public void repair() {
+        int articles = articleRepository.repairCommentCounts();
+        int comments = commentRepository.repairReplyCounts();
+
+        if (articles > 0 || comments > 0) {
+            log.info("Comment counters are repaired - articles: {}, comments: {}", articles, comments);
+        }
+    }
+}
@@ -5,15 +5,30 @@ import com.kimbos.onlinecommunity.domain.Comment;
 import com.kimbos.onlinecommunity.domain.UserAccount;
 import com.kimbos.onlinecommunity.dto.CommentDto;
 import com.kimbos.onlinecommunity.repository.ArticleRepository;
+import com.kimbos.onlinecommunity.repository.CommentClosureRepository;
 import com.kimbos.onlinecommunity.repository.CommentRepository;
 import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import com.kimbos.onlinecommunity.service.search.CommentSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,9 +38,24 @@ public class CommentService {
 
     private final ArticleRepository articleRepository;
     private final CommentRepository commentRepository;
+    private final CommentClosureRepository commentClosureRepository;
     private final UserAccountRepository userAccountRepository;
+    private final CommentSearchIndex commentSearchIndex;
 
 
+    /**
+     * Comments seeded or written before the closure table existed get their paths here,
+     * before {@link CommentCountRepairer} counts replies from them.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildClosure() {
+        if (commentClosureRepository.count() == 0 && commentRepository.count() > 0) {
+            commentClosureRepository.rebuild();
+            log.info("Comment closure table is built - paths: {}", commentClosureRepository.count());
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<CommentDto> searchComments(Long articleId) {
         return commentRepository.findByArticle_Id(articleId)
@@ -34,6 +64,45 @@ public class CommentService {
                 .toList();
     }
 
+    /**
+     * One page of the comments that start a thread under the article. Replies are loaded on demand by {@link #getReplies}.
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentDto> getRootComments(Long articleId, Pageable pageable) {
+        return commentRepository.findByArticle_IdAndParentCommentIdIsNull(articleId, pageable)
+                .map(CommentDto::from);
+    }
+
+    /**
+     * One page of the replies down to {@code depth} levels below the comment; direct replies only when it is 1 or less.
+     */
+    @Transactional(readOnly = true)
+    public Slice<CommentDto> getReplies(Long commentId, int depth, Pageable pageable) {
+        Slice<Comment> replies = depth > 1
+                ? commentRepository.findSubtree(commentId, depth, pageable)
+                : commentRepository.findByParentCommentId(commentId, pageable);
+
+        return replies.map(CommentDto::from);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CommentDto> searchCommentsByKeyword(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            return Page.empty(pageable);
+        }
+
+        Page<Long> commentIds = commentSearchIndex.search(keyword, pageable);
+        Map<Long, Comment> comments = commentRepository.findAllById(commentIds.getContent()).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        List<CommentDto> commentDtos = commentIds.getContent().stream()
+                .map(comments::get)
+                .filter(Objects::nonNull)
+                .map(CommentDto::from)
+                .toList();
+
+        return new PageImpl<>(commentDtos, pageable, commentIds.getTotalElements());
+    }
+
     public void saveComment(CommentDto commentDto) {
         try {
             Article article = articleRepository.getReferenceById(commentDto.articleId());
@@ -43,9 +112,16 @@ public class CommentService {
             if (commentDto.parentCommentId() != null) {
                 Comment parentComment = commentRepository.getReferenceById(commentDto.parentCommentId());
                 parentComment.addChildComment(comment);
+                commentRepository.flush();
             } else {
                 commentRepository.save(comment);
             }
+            commentClosureRepository.insertPaths(comment.getId());
+            articleRepository.addCommentCount(commentDto.articleId(), 1);
+            if (commentDto.parentCommentId() != null) {
+                commentRepository.addReplyCountToAncestors(comment.getId(), 1);
+            }
+            commentSearchIndex.index(comment);
         } catch (EntityNotFoundException enf) {
             log.warn("Fail to save the comment - Cannot find the article or user account - dto: {}", commentDto);
         }
@@ -54,13 +130,30 @@ public class CommentService {
     public void updateComment(CommentDto commentDto) {
         try {
             Comment comment = commentRepository.getReferenceById(commentDto.id());
-            if (commentDto.content() != null) { comment.setContent(commentDto.content()); }
+            if (commentDto.content() != null) {
+                comment.setContent(commentDto.content());
+                commentSearchIndex.index(comment);
+            }
         } catch (EntityNotFoundException e) {
             log.warn("Fail to update the comment - Cannot find the article - dto: {}", commentDto);
         }
     }
 
     public void deleteComment(Long commentId, String userId) {
-        commentRepository.deleteByIdAndUserAccount_UserId(commentId, userId);
+        Optional<Long> articleId = commentRepository.findArticleIdById(commentId);
+        if (articleId.isEmpty()) {
+            return;
+        }
+        // Read before the delete, the paths of the comment go with it. The subtree holds the comment and its replies.
+        List<Long> subtreeIds = commentClosureRepository.findSubtreeIds(commentId);
+        List<Long> ancestorIds = commentClosureRepository.findAncestorIds(commentId);
+
+        if (commentRepository.deleteByIdAndUserAccount_UserId(commentId, userId) > 0) {
+            articleRepository.addCommentCount(articleId.get(), -subtreeIds.size());
+            if (!ancestorIds.isEmpty()) {
+                commentRepository.addReplyCount(ancestorIds, -subtreeIds.size());
+            }
+            subtreeIds.forEach(commentSearchIndex::remove);
+        }
     }
 }
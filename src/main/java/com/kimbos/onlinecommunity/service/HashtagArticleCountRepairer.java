@@ -0,0 +1,45 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes {@code Hashtag.articleCount} from the article-hashtag rows, on an admin's request.
+ * Article writes and imports keep the counter up to date and the seed data sets it, so this only repairs rows changed
+ * outside of the service. It runs two count subqueries per hashtag and empties the hashtag cache region, so it is
+ * not scheduled. Every run ends with a rebuild of the {@link SuggestionIndex}, which is weighted by the counters.
+ */
+@Slf4j
+@Component
+public class HashtagArticleCountRepairer {
+
+    private final HashtagRepository hashtagRepository;
+    private final SuggestionIndex suggestionIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public HashtagArticleCountRepairer(
+            HashtagRepository hashtagRepository,
+            SuggestionIndex suggestionIndex,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.hashtagRepository = hashtagRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @return number of hashtags whose counter was wrong
+     */
+    public int repair() {
+        int hashtags = transactionTemplate.execute(status -> hashtagRepository.repairArticleCounts());
+
+        log.info("Hashtag article counters are repaired - hashtags: {}", hashtags);
+        // Read once the repair is committed
+        suggestionIndex.rebuild();
+        return hashtags;
+    }
+}
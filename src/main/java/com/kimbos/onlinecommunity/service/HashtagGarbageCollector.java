@@ -0,0 +1,80 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.domain.Hashtag;
+import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.utils.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deletes hashtags that lost their last article.
+ * Article writes only hand over the ids of hashtags they detached; the ids are checked later in batches,
+ * each batch with one anti-join delete, instead of loading every article of every hashtag inline.
+ * Orphans are locked before they are deleted and {@link HashtagService#findOrCreateHashtags(Set)} share-locks
+ * the hashtags it attaches, so a hashtag is never deleted under an article being saved.
+ */
+@Slf4j
+@Component
+public class HashtagGarbageCollector {
+
+    static final int BATCH_SIZE = 500;
+
+    private final HashtagRepository hashtagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+
+    public HashtagGarbageCollector(
+            HashtagRepository hashtagRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.hashtagRepository = hashtagRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Remember hashtags that may have become orphans, once the surrounding transaction commits.
+     */
+    public void enqueue(Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(hashtagIds);
+        AfterCommit.run(() -> candidates.addAll(ids));
+    }
+
+    public int pendingCount() {
+        return candidates.size();
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${community.hashtag-gc.interval:PT1M}")
+    public void collect() {
+        while (!candidates.isEmpty()) {
+            List<Long> batch = new ArrayList<>(BATCH_SIZE);
+            Iterator<Long> iterator = candidates.iterator();
+            while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+
+            long deleted = transactionTemplate.execute(status -> deleteOrphans(batch));
+            log.debug("Orphan hashtags are collected - candidates: {}, deleted: {}", batch.size(), deleted);
+        }
+    }
+
+    private long deleteOrphans(List<Long> hashtagIds) {
+        List<Hashtag> orphans = hashtagRepository.findOrphans(hashtagIds);
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+
+        return hashtagRepository.deleteOrphans(orphans.stream().map(Hashtag::getId).toList());
+    }
+}
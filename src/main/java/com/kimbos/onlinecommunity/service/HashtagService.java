@@ -1,16 +1,25 @@
 package com.kimbos.onlinecommunity.service;
 
 import com.kimbos.onlinecommunity.domain.Hashtag;
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
 import com.kimbos.onlinecommunity.repository.HashtagRepository;
-
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
+import com.kimbos.onlinecommunity.utils.HashtagScanner;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Transactional
 @RequiredArgsConstructor
@@ -18,33 +27,58 @@ import java.util.regex.Pattern;
 public class HashtagService {
 
     private final HashtagRepository hashtagRepository;
+    private final SuggestionIndex suggestionIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
-    @Transactional(readOnly = true)
-    public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
-        return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+    /**
+     * Existing hashtags for the names, plus new transient ones for names that don't exist yet.
+     * Existing hashtags are share-locked until the transaction ends, so that {@link HashtagGarbageCollector}
+     * can't delete them before the article tagged with them is saved.
+     */
+    public Set<Hashtag> findOrCreateHashtags(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<Hashtag> hashtags = new HashSet<>(hashtagRepository.findByHashtagNameInForShare(hashtagNames));
+        Set<String> existingNames = hashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toSet());
+        hashtagNames.stream()
+                .filter(hashtagName -> !existingNames.contains(hashtagName))
+                .map(Hashtag::of)
+                .forEach(hashtags::add);
+
+        return hashtags;
     }
 
-    public Set<String> parseHashtagNames(String content) {
-        if (content == null) {
-            return Set.of();
-        }
+    /**
+     * One page of the hashtag directory after the cursor. One extra row is read to tell if there is a next page.
+     */
+    @Transactional(readOnly = true)
+    public Slice<HashtagSummaryDto> getHashtagDirectory(String prefix, HashtagCursor cursor, int size) {
+        List<HashtagSummaryDto> rows = hashtagRepository.findDirectoryAfter(prefix, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
 
-        // Korean Version Parsing
-        Pattern pattern = Pattern.compile("#[\\w가-힣]+");
-        Matcher matcher = pattern.matcher(content.strip());
-        Set<String> result = new HashSet<>();
+        return new SliceImpl<>(rows.stream().limit(size).toList(), PageRequest.of(0, size), hasNext);
+    }
 
-        while (matcher.find()) {
-            result.add(matcher.group().replace("#", ""));
+    /**
+     * Count articles tagged ({@code delta > 0}) or untagged ({@code delta < 0}) with the hashtags.
+     * Only the changed hashtags are evicted from the second-level cache.
+     */
+    public void addArticleCount(Collection<Hashtag> hashtags, int delta) {
+        if (hashtags.isEmpty()) {
+            return;
         }
 
-        return Set.copyOf(result);
+        Set<String> hashtagNames = hashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toUnmodifiableSet());
+        hashtagRepository.addArticleCount(hashtagNames, delta);
+        // The update flushed the session first, so hashtags created in this transaction have their ids by now
+        Cache cache = entityManagerFactory.getCache();
+        hashtags.forEach(hashtag -> cache.evict(Hashtag.class, hashtag.getId()));
+        suggestionIndex.addHashtags(hashtagNames, delta);
     }
 
-    public void deleteHashtagWithoutArticles(Long hashtagId) {
-        Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        if (hashtag.getArticles().isEmpty()) {
-            hashtagRepository.delete(hashtag);
-        }
+    public Set<String> parseHashtagNames(String content) {
+        return HashtagScanner.scan(content);
     }
-}
\ No newline at end of file
+}
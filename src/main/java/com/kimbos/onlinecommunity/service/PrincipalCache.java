@@ -0,0 +1,61 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kimbos.onlinecommunity.dto.UserAccountDto;
+import com.kimbos.onlinecommunity.utils.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Short-lived, bounded cache of the accounts that form and OAuth2 logins build their principal from, by username.
+ * Only existing accounts are kept, so a sign-up is visible right away; a changed account is evicted on commit.
+ * Besides the {@code cache.*} meters with {@code cache=principal}, the hit ratio is published as {@code cache.hit.ratio}.
+ */
+public class PrincipalCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "principal";
+
+    private final Cache<String, UserAccountDto> cache;
+
+    public PrincipalCache(long maximumSize, Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, cache -> cache.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Share of principal lookups served without a database read")
+                .register(registry);
+    }
+
+    /**
+     * The cached account, or the one {@code loader} finds, which is cached. Concurrent misses of a username share one load.
+     */
+    public Optional<UserAccountDto> get(String username, Function<String, Optional<UserAccountDto>> loader) {
+        return Optional.ofNullable(cache.get(username, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Evict the account once the surrounding transaction commits.
+     */
+    public void evict(String username) {
+        AfterCommit.run(() -> cache.invalidate(username));
+    }
+
+    public double hitRatio() {
+        return cache.stats().hitRate();
+    }
+}
@@ -0,0 +1,172 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.domain.enums.TrendWindow;
+import com.kimbos.onlinecommunity.dto.TrendingHashtagDto;
+import com.kimbos.onlinecommunity.utils.AfterCommit;
+import com.kimbos.onlinecommunity.utils.CountMinSketch;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.*;
+
+/**
+ * Most used hashtags of the last hour, day and week, counted in memory as hashtags are tagged on articles and searched.
+ * <p>
+ * Each {@link TrendWindow} is a ring of {@link CountMinSketch} buckets: a hashtag's count in the window is the sum of
+ * its estimates in the live buckets, and sliding the window just clears the oldest bucket. Next to the sketches, a
+ * min-heap keeps the {@value #CANDIDATES} hashtags with the highest counts, so the top list is read without scanning
+ * or grouping anything. Counts are estimates that may run slightly high, and they start over on restart.
+ */
+@Component
+public class TrendingHashtags {
+
+    static final int CANDIDATES = 50;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1024;
+
+    private final Clock clock;
+    private final Map<TrendWindow, Window> windows = new EnumMap<>(TrendWindow.class);
+
+    public TrendingHashtags() {
+        this(Clock.systemUTC());
+    }
+
+    TrendingHashtags(Clock clock) {
+        this.clock = clock;
+        for (TrendWindow trendWindow : TrendWindow.values()) {
+            windows.put(trendWindow, new Window(trendWindow));
+        }
+    }
+
+    /**
+     * Hashtags put on an article, counted once the current transaction commits.
+     */
+    public void articleTagged(Collection<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return;
+        }
+        List<String> names = List.copyOf(hashtagNames);
+        AfterCommit.run(() -> names.forEach(this::add));
+    }
+
+    /**
+     * A search of an existing hashtag, by its normalized name.
+     */
+    public void searched(String hashtagName) {
+        if (hashtagName != null && !hashtagName.isBlank()) {
+            add(hashtagName);
+        }
+    }
+
+    /**
+     * @return up to {@code limit} hashtags of the window, most used first
+     */
+    public List<TrendingHashtagDto> top(TrendWindow trendWindow, int limit) {
+        return windows.get(trendWindow).top(clock.millis(), limit);
+    }
+
+    private void add(String hashtagName) {
+        long now = clock.millis();
+        windows.values().forEach(window -> window.add(hashtagName, now));
+    }
+
+    private static final class Window {
+
+        private final long bucketMillis;
+        private final CountMinSketch[] buckets;
+        private final long[] bucketNumbers;
+        private final Map<String, Long> counts = new HashMap<>();
+        private final PriorityQueue<TrendingHashtagDto> heap =
+                new PriorityQueue<>(Comparator.comparingLong(TrendingHashtagDto::count));
+        private long currentBucket = Long.MIN_VALUE;
+
+        Window(TrendWindow trendWindow) {
+            this.bucketMillis = trendWindow.getBucketLength().toMillis();
+            this.buckets = new CountMinSketch[trendWindow.getBuckets()];
+            this.bucketNumbers = new long[trendWindow.getBuckets()];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+                bucketNumbers[i] = Long.MIN_VALUE;
+            }
+        }
+
+        synchronized void add(String hashtagName, long now) {
+            slide(now);
+            int slot = slotOf(currentBucket);
+            if (bucketNumbers[slot] != currentBucket) {
+                buckets[slot].clear();
+                bucketNumbers[slot] = currentBucket;
+            }
+            buckets[slot].add(hashtagName, 1);
+            offer(hashtagName, estimate(hashtagName));
+        }
+
+        synchronized List<TrendingHashtagDto> top(long now, int limit) {
+            slide(now);
+            return heap.stream()
+                    .sorted(Comparator.comparingLong(TrendingHashtagDto::count).reversed()
+                            .thenComparing(TrendingHashtagDto::hashtagName))
+                    .limit(limit)
+                    .toList();
+        }
+
+        private void slide(long now) {
+            long bucket = Math.floorDiv(now, bucketMillis);
+            if (bucket <= currentBucket) {
+                return;
+            }
+            currentBucket = bucket;
+
+            boolean expired = false;
+            for (int i = 0; i < buckets.length; i++) {
+                if (bucketNumbers[i] != Long.MIN_VALUE && bucketNumbers[i] <= bucket - buckets.length) {
+                    buckets[i].clear();
+                    bucketNumbers[i] = Long.MIN_VALUE;
+                    expired = true;
+                }
+            }
+            if (expired) {
+                rescore();
+            }
+        }
+
+        // Counts of the candidates only ever drop when a bucket expires, so that is the only time they are recomputed
+        private void rescore() {
+            List<String> names = new ArrayList<>(counts.keySet());
+            counts.clear();
+            heap.clear();
+            names.forEach(name -> offer(name, estimate(name)));
+        }
+
+        private void offer(String hashtagName, long count) {
+            if (count <= 0) {
+                return;
+            }
+            if (counts.containsKey(hashtagName)) {
+                heap.removeIf(candidate -> candidate.hashtagName().equals(hashtagName));
+            } else if (heap.size() >= CANDIDATES) {
+                if (heap.peek().count() >= count) {
+                    return;
+                }
+                counts.remove(heap.poll().hashtagName());
+            }
+            counts.put(hashtagName, count);
+            heap.add(TrendingHashtagDto.of(hashtagName, count));
+        }
+
+        private long estimate(String hashtagName) {
+            long count = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                if (bucketNumbers[i] != Long.MIN_VALUE) {
+                    count += buckets[i].estimate(hashtagName);
+                }
+            }
+            return count;
+        }
+
+        private int slotOf(long bucket) {
+            return (int) Math.floorMod(bucket, (long) buckets.length);
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.kimbos.onlinecommunity.service;
 import com.kimbos.onlinecommunity.domain.UserAccount;
 import com.kimbos.onlinecommunity.dto.UserAccountDto;
 import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -16,14 +18,19 @@ import java.util.Optional;
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final PrincipalCache principalCache;
+    private final SuggestionIndex suggestionIndex;
 
-    @Transactional(readOnly = true)
+    // Joins no transaction of its own, so a cache hit never takes a connection; a miss reads in the repository's
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<UserAccountDto> searchUser(String username) {
-        return userAccountRepository.findById(username)
-                .map(UserAccountDto::from);
+        return principalCache.get(username, id -> userAccountRepository.findById(id).map(UserAccountDto::from));
     }
 
     public UserAccountDto saveUser(String username, String password, String email, String nickname, String memo) {
+        principalCache.evict(username);
+        String previousNickname = userAccountRepository.findNicknameByUserId(username).orElse(null);
+        suggestionIndex.changeNickname(previousNickname, nickname);
         return UserAccountDto.from(
                 userAccountRepository.save(UserAccount.of(username, password, email, nickname, memo, username))
         );
@@ -0,0 +1,146 @@
+package com.kimbos.onlinecommunity.service.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimbos.onlinecommunity.dto.ArticleExportRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Writes every article with its hashtags and comments as NDJSON, one article per line, oldest first.
+ * <p>
+ * Articles are read in chunks of {@value #CHUNK_SIZE} along the {@code (created_at, id)} index, each chunk starting
+ * right after the last article of the previous one, so no statement sorts the table or keeps a cursor open while the
+ * client reads. The hashtags and comments of a chunk are then looked up by article id. Only one chunk is held in
+ * memory, so heap use does not depend on the size of the board.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleExporter {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String ARTICLE_CHUNK_QUERY = """
+            select id, user_id, title, content, created_at
+            from article
+            where created_at >= :lastCreatedAt and (created_at > :lastCreatedAt or id > :lastId)
+            order by created_at, id
+            limit :limit
+            """;
+    private static final String HASHTAG_QUERY = """
+            select ah.article_id, h.hashtag_name
+            from article_hashtag ah
+            join hashtag h on h.id = ah.hashtag_id
+            where ah.article_id in (:articleIds)
+            order by ah.article_id, ah.hashtag_id
+            """;
+    private static final String COMMENT_QUERY = """
+            select id, article_id, parent_comment_id, user_id, content, created_at
+            from comment
+            where article_id in (:articleIds)
+            order by article_id, id
+            """;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param since export only articles created at or after this time, or everything when {@code null}
+     * @return number of exported articles
+     */
+    public long export(LocalDateTime since, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long articles = 0;
+        LocalDateTime lastCreatedAt = since == null ? BEGINNING : since;
+        long lastId = Long.MIN_VALUE;
+        List<ArticleRow> chunk;
+        do {
+            chunk = findArticles(lastCreatedAt, lastId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> articleIds = chunk.stream().map(ArticleRow::id).toList();
+            Map<Long, List<String>> hashtags = findHashtags(articleIds);
+            Map<Long, List<ArticleExportRecord.CommentRecord>> comments = findComments(articleIds);
+            for (ArticleRow article : chunk) {
+                objectMapper.writeValue(generator, ArticleExportRecord.of(
+                        String.valueOf(article.id()),
+                        article.userId(),
+                        article.title(),
+                        article.content(),
+                        article.createdAt(),
+                        hashtags.getOrDefault(article.id(), List.of()),
+                        comments.getOrDefault(article.id(), List.of())
+                ));
+                generator.writeRaw('\n');
+            }
+
+            articles += chunk.size();
+            ArticleRow last = chunk.get(chunk.size() - 1);
+            lastCreatedAt = last.createdAt();
+            lastId = last.id();
+        } while (chunk.size() == CHUNK_SIZE);
+
+        generator.flush();
+        log.info("Article export is finished - since: {}, articles: {}", since, articles);
+        return articles;
+    }
+
+    private List<ArticleRow> findArticles(LocalDateTime lastCreatedAt, long lastId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("lastCreatedAt", Timestamp.valueOf(lastCreatedAt))
+                .addValue("lastId", lastId)
+                .addValue("limit", CHUNK_SIZE);
+
+        return jdbcTemplate.query(ARTICLE_CHUNK_QUERY, parameters, (rs, rowNum) -> new ArticleRow(
+                rs.getLong("id"),
+                rs.getString("user_id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ));
+    }
+
+    private Map<Long, List<String>> findHashtags(List<Long> articleIds) {
+        Map<Long, List<String>> hashtags = new HashMap<>();
+        jdbcTemplate.query(HASHTAG_QUERY, Map.of("articleIds", articleIds), rs -> {
+            hashtags.computeIfAbsent(rs.getLong("article_id"), id -> new ArrayList<>()).add(rs.getString("hashtag_name"));
+        });
+
+        return hashtags;
+    }
+
+    private Map<Long, List<ArticleExportRecord.CommentRecord>> findComments(List<Long> articleIds) {
+        Map<Long, List<ArticleExportRecord.CommentRecord>> comments = new HashMap<>();
+        jdbcTemplate.query(COMMENT_QUERY, Map.of("articleIds", articleIds), rs -> {
+            long parentId = rs.getLong("parent_comment_id");
+            boolean root = rs.wasNull();
+            comments.computeIfAbsent(rs.getLong("article_id"), id -> new ArrayList<>()).add(ArticleExportRecord.CommentRecord.of(
+                    String.valueOf(rs.getLong("id")),
+                    root ? null : String.valueOf(parentId),
+                    rs.getString("user_id"),
+                    rs.getString("content"),
+                    rs.getTimestamp("created_at").toLocalDateTime()
+            ));
+        });
+
+        return comments;
+    }
+
+
+    private record ArticleRow(long id, String userId, String title, String content, LocalDateTime createdAt) {}
+}
@@ -0,0 +1,247 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.kimbos.onlinecommunity.domain.Article;
+import com.kimbos.onlinecommunity.domain.ImportCheckpoint;
+import com.kimbos.onlinecommunity.domain.SnowflakeIdGenerator;
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+import com.kimbos.onlinecommunity.repository.ImportCheckpointRepository;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchCache;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchIndex;
+import com.kimbos.onlinecommunity.service.search.CommentSearchIndex;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
+import com.kimbos.onlinecommunity.utils.HashtagScanner;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Writes one batch of import records in one transaction, together with the job checkpoint.
+ * Rows go through JDBC batches instead of entities: one statement per table per batch, whatever the batch size.
+ * Hashtags are parsed in parallel, and the distinct hashtags of the whole batch are looked up and upserted once.
+ */
+@RequiredArgsConstructor
+@Component
+public class ArticleImportBatchWriter {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_ARTICLE_CONTENT_LENGTH = 10_000;
+    private static final int MAX_COMMENT_CONTENT_LENGTH = 500;
+
+    private static final String INSERT_ARTICLE = """
+            insert into article (id, user_id, title, content, comment_count, created_at, created_by, modified_at, modified_by)
+            values (:id, :userId, :title, :content, :commentCount, :createdAt, :userId, :createdAt, :userId)
+            """;
+    private static final String INSERT_ARTICLE_HASHTAG = """
+            insert into article_hashtag (article_id, hashtag_id) values (:articleId, :hashtagId)
+            """;
+    // A name another transaction inserted meanwhile is left as it is; its id is read back with the others
+    private static final String UPSERT_HASHTAG = """
+            insert into hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by)
+            values (:id, :hashtagName, :createdAt, :createdBy, :createdAt, :createdBy)
+            on duplicate key update id = id
+            """;
+    private static final String ADD_HASHTAG_ARTICLE_COUNT = """
+            update hashtag set article_count = article_count + :count where id = :id
+            """;
+    private static final String INSERT_COMMENT = """
+            insert into comment (id, article_id, user_id, parent_comment_id, content, reply_count, created_at, created_by, modified_at, modified_by)
+            values (:id, :articleId, :userId, null, :content, 0, :createdAt, :userId, :createdAt, :userId)
+            """;
+    private static final String INSERT_COMMENT_SELF_PATH = """
+            insert into comment_closure (ancestor_id, descendant_id, depth) values (:id, :id, 0)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final CommentSearchIndex commentSearchIndex;
+    private final ArticleSearchCache articleSearchCache;
+    private final SuggestionIndex suggestionIndex;
+
+    private SnowflakeIdGenerator idGenerator;
+
+    /**
+     * @return checkpoint of the job after this batch
+     */
+    @Transactional
+    public ImportCheckpoint write(String jobId, List<ArticleImportRecord> records) {
+        ImportCheckpoint checkpoint = importCheckpointRepository.findById(jobId)
+                .orElseGet(() -> ImportCheckpoint.of(jobId));
+        Set<String> userIds = findExistingUserIds(records);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ArticleImportRecord> articles = records.stream()
+                .filter(record -> isValidArticle(record, userIds))
+                .toList();
+        List<Set<String>> hashtagNames = articles.parallelStream()
+                .map(record -> HashtagScanner.scan(record.content()))
+                .toList();
+        Map<String, Long> hashtagIds = upsertHashtags(hashtagNames, jobId, now);
+
+        List<SqlParameterSource> articleRows = new ArrayList<>();
+        List<SqlParameterSource> articleHashtagRows = new ArrayList<>();
+        List<SqlParameterSource> commentRows = new ArrayList<>();
+        Map<String, Integer> hashtagArticleCounts = new HashMap<>();
+        for (int i = 0; i < articles.size(); i++) {
+            ArticleImportRecord article = articles.get(i);
+            long articleId = nextId();
+            LocalDateTime articleCreatedAt = Objects.requireNonNullElse(article.createdAt(), now);
+
+            List<ArticleImportRecord.CommentRecord> comments = article.comments().stream()
+                    .filter(comment -> isValidComment(comment, userIds))
+                    .toList();
+            for (ArticleImportRecord.CommentRecord comment : comments) {
+                long commentId = nextId();
+                String content = comment.content();
+                commentRows.add(new MapSqlParameterSource()
+                        .addValue("id", commentId)
+                        .addValue("articleId", articleId)
+                        .addValue("userId", comment.userId())
+                        .addValue("content", content)
+                        .addValue("createdAt", Objects.requireNonNullElse(comment.createdAt(), now)));
+                commentSearchIndex.index(commentId, content);
+            }
+
+            articleRows.add(new MapSqlParameterSource()
+                    .addValue("id", articleId)
+                    .addValue("userId", article.userId())
+                    .addValue("title", article.title())
+                    .addValue("content", article.content())
+                    .addValue("commentCount", comments.size())
+                    .addValue("createdAt", articleCreatedAt));
+            hashtagNames.get(i).forEach(hashtagName -> {
+                articleHashtagRows.add(new MapSqlParameterSource()
+                        .addValue("articleId", articleId)
+                        .addValue("hashtagId", hashtagIds.get(hashtagName)));
+                hashtagArticleCounts.merge(hashtagName, 1, Integer::sum);
+            });
+            articleSearchIndex.index(articleId, article.title(), article.content(), articleCreatedAt);
+        }
+
+        batchUpdate(INSERT_ARTICLE, articleRows);
+        batchUpdate(INSERT_ARTICLE_HASHTAG, articleHashtagRows);
+        // Sorted by id, so concurrent batches lock the hashtag rows in the same order
+        batchUpdate(ADD_HASHTAG_ARTICLE_COUNT, hashtagArticleCounts.entrySet().stream()
+                .map(entry -> Map.entry(hashtagIds.get(entry.getKey()), entry.getValue()))
+                .sorted(Map.Entry.comparingByKey())
+                .<SqlParameterSource>map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("count", entry.getValue()))
+                .toList());
+        batchUpdate(INSERT_COMMENT, commentRows);
+        batchUpdate(INSERT_COMMENT_SELF_PATH, commentRows);
+
+        suggestionIndex.addHashtags(hashtagArticleCounts);
+        articleSearchCache.evictHashtags(hashtagIds.keySet());
+        articleSearchCache.evictAuthorSearches();
+
+        checkpoint.advance(records.size(), articleRows.size(), commentRows.size(), records.size() - articleRows.size());
+        return importCheckpointRepository.save(checkpoint);
+    }
+
+    private Set<String> findExistingUserIds(List<ArticleImportRecord> records) {
+        Set<String> userIds = new HashSet<>();
+        for (ArticleImportRecord record : records) {
+            userIds.add(record.userId());
+            record.comments().forEach(comment -> userIds.add(comment.userId()));
+        }
+        userIds.remove(null);
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select user_id from user_account where user_id in (:userIds)",
+                Map.of("userIds", userIds),
+                String.class
+        ));
+    }
+
+    /**
+     * Ids of every hashtag of the batch, as they are in the database. Missing names are upserted in one JDBC batch and
+     * then read back, so a name created concurrently by an article save or another import doesn't fail the batch.
+     */
+    private Map<String, Long> upsertHashtags(List<Set<String>> hashtagNames, String createdBy, LocalDateTime now) {
+        Set<String> names = new HashSet<>();
+        hashtagNames.forEach(names::addAll);
+        if (names.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<String, Long> hashtagIds = findHashtagIds(names);
+        // Sorted, so concurrent batches lock the unique index entries in the same order
+        List<String> missingNames = names.stream()
+                .filter(hashtagName -> !hashtagIds.containsKey(hashtagName))
+                .sorted()
+                .toList();
+        if (missingNames.isEmpty()) {
+            return hashtagIds;
+        }
+
+        List<SqlParameterSource> hashtagRows = new ArrayList<>();
+        for (String hashtagName : missingNames) {
+            hashtagRows.add(new MapSqlParameterSource()
+                    .addValue("id", nextId())
+                    .addValue("hashtagName", hashtagName)
+                    .addValue("createdAt", now)
+                    .addValue("createdBy", createdBy));
+        }
+        batchUpdate(UPSERT_HASHTAG, hashtagRows);
+        Map<String, Long> newHashtagIds = findHashtagIds(missingNames);
+
+        hashtagIds.putAll(newHashtagIds);
+        return hashtagIds;
+    }
+
+    private Map<String, Long> findHashtagIds(Collection<String> hashtagNames) {
+        Map<String, Long> hashtagIds = new HashMap<>();
+        jdbcTemplate.query(
+                "select id, hashtag_name from hashtag where hashtag_name in (:hashtagNames)",
+                Map.of("hashtagNames", hashtagNames),
+                rs -> {
+                    hashtagIds.put(rs.getString("hashtag_name"), rs.getLong("id"));
+                }
+        );
+        return hashtagIds;
+    }
+
+    private void batchUpdate(String sql, List<SqlParameterSource> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    // The generator Hibernate configured for the entities, so imported rows draw from the same node sequence
+    private long nextId() {
+        if (idGenerator == null) {
+            idGenerator = (SnowflakeIdGenerator) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getMetamodel()
+                    .entityPersister(Article.class)
+                    .getIdentifierGenerator();
+        }
+        return idGenerator.nextId();
+    }
+
+    private static boolean isValidArticle(ArticleImportRecord record, Set<String> userIds) {
+        return userIds.contains(record.userId())
+                && isFilled(record.title(), MAX_TITLE_LENGTH)
+                && isFilled(record.content(), MAX_ARTICLE_CONTENT_LENGTH);
+    }
+
+    private static boolean isValidComment(ArticleImportRecord.CommentRecord comment, Set<String> userIds) {
+        return userIds.contains(comment.userId()) && isFilled(comment.content(), MAX_COMMENT_CONTENT_LENGTH);
+    }
+
+    private static boolean isFilled(String value, int maxLength) {
+        return value != null && !value.isBlank() && value.length() <= maxLength;
+    }
+}
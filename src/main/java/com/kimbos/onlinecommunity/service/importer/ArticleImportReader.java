@@ -0,0 +1,18 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads import records one at a time, so an input of any size is never held in memory.
+ * Malformed input is reported as {@link IllegalArgumentException} with the line it was found on.
+ */
+public interface ArticleImportReader extends Closeable {
+
+    /**
+     * @return the next record, or {@code null} at the end of the input
+     */
+    ArticleImportRecord next() throws IOException;
+}
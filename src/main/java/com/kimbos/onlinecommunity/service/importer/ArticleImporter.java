@@ -0,0 +1,72 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.kimbos.onlinecommunity.domain.ImportCheckpoint;
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+import com.kimbos.onlinecommunity.dto.response.ArticleImportResponse;
+import com.kimbos.onlinecommunity.repository.ImportCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams import records into {@link ArticleImportBatchWriter} one batch at a time.
+ * Every batch commits with the job checkpoint, so a failed or interrupted job is resumed by sending the same input
+ * again under the same job id: the records before the checkpoint are read and skipped.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImporter {
+
+    static final int BATCH_SIZE = 500;
+
+    private final ArticleImportBatchWriter articleImportBatchWriter;
+    private final ImportCheckpointRepository importCheckpointRepository;
+
+    public ArticleImportResponse importArticles(String jobId, ArticleImportReader reader) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportCheckpoint resumedFrom = importCheckpointRepository.findById(jobId)
+                .orElseGet(() -> ImportCheckpoint.of(jobId));
+
+        for (long skipped = 0; skipped < resumedFrom.getPosition(); skipped++) {
+            if (reader.next() == null) {
+                break;
+            }
+        }
+
+        ImportCheckpoint checkpoint = resumedFrom;
+        List<ArticleImportRecord> batch = new ArrayList<>(BATCH_SIZE);
+        ArticleImportRecord record;
+        do {
+            record = reader.next();
+            if (record != null) {
+                batch.add(record);
+            }
+            if (batch.size() == BATCH_SIZE || (record == null && !batch.isEmpty())) {
+                long batchStartedAt = System.nanoTime();
+                checkpoint = articleImportBatchWriter.write(jobId, batch);
+                log.debug("Import batch is committed - jobId: {}, position: {}, records: {}, elapsed: {}ms",
+                        jobId, checkpoint.getPosition(), batch.size(), (System.nanoTime() - batchStartedAt) / 1_000_000);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        } while (record != null);
+
+        // Counts of this run only, so the rate is not inflated by the runs it was resumed from
+        ArticleImportResponse response = ArticleImportResponse.of(
+                jobId,
+                resumedFrom.getPosition(),
+                checkpoint.getPosition() - resumedFrom.getPosition(),
+                checkpoint.getImportedArticles() - resumedFrom.getImportedArticles(),
+                checkpoint.getImportedComments() - resumedFrom.getImportedComments(),
+                checkpoint.getSkippedRecords() - resumedFrom.getSkippedRecords(),
+                (System.nanoTime() - startedAt) / 1_000_000
+        );
+        log.info("Import is finished - {}", response);
+
+        return response;
+    }
+}
@@ -0,0 +1,180 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns {@code type, user_id, title, content, created_at}.
+ * A row of type {@code article} starts a record, and the {@code comment} rows that follow it are its comments.
+ * Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+public class CsvArticleImportReader implements ArticleImportReader {
+
+    private static final String ARTICLE = "article";
+    private static final String COMMENT = "comment";
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private boolean headerRead;
+    private List<String> pendingArticle;
+    private long lineNumber = 1;
+    private int lookahead = -2;
+
+    public CsvArticleImportReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ArticleImportRecord next() throws IOException {
+        if (!headerRead) {
+            readHeader();
+            headerRead = true;
+        }
+
+        List<String> article = pendingArticle != null ? pendingArticle : readRow();
+        pendingArticle = null;
+        if (article == null) {
+            return null;
+        }
+        if (!ARTICLE.equals(field(article, "type"))) {
+            throw new IllegalArgumentException("Comment row before any article row - line: " + lineNumber);
+        }
+
+        List<ArticleImportRecord.CommentRecord> comments = new ArrayList<>();
+        List<String> row;
+        while ((row = readRow()) != null) {
+            if (!COMMENT.equals(field(row, "type"))) {
+                pendingArticle = row;
+                break;
+            }
+            comments.add(ArticleImportRecord.CommentRecord.of(field(row, "user_id"), field(row, "content"), dateTime(row)));
+        }
+
+        return ArticleImportRecord.of(field(article, "user_id"), field(article, "title"), field(article, "content"), dateTime(article), comments);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRow();
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).strip().toLowerCase(), i);
+        }
+        for (String column : List.of("type", "user_id", "title", "content")) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("Missing CSV column - column: " + column);
+            }
+        }
+    }
+
+    private String field(List<String> row, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+        String value = row.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private LocalDateTime dateTime(List<String> row) {
+        String value = field(row, "created_at");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.strip().replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed created_at - line: " + lineNumber + ", value: " + value, e);
+        }
+    }
+
+    /**
+     * @return fields of the next non-empty row, or {@code null} at the end of the input
+     */
+    private List<String> readRow() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                quoted = true;
+                empty = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                empty = false;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                lineNumber++;
+                if (!empty || field.length() > 0) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+            } else {
+                field.append((char) c);
+                empty = false;
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field - line: " + lineNumber);
+        }
+        if (!empty || field.length() > 0) {
+            fields.add(field.toString());
+            return fields;
+        }
+        return null;
+    }
+
+    private int read() throws IOException {
+        if (lookahead != -2) {
+            int c = lookahead;
+            lookahead = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == -2) {
+            lookahead = reader.read();
+        }
+        return lookahead;
+    }
+}
@@ -0,0 +1,47 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One JSON article per line: {@code {"userId", "title", "content", "createdAt", "comments": [{"userId", "content", "createdAt"}]}}.
+ * Blank lines are skipped.
+ */
+public class NdjsonArticleImportReader implements ArticleImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    public NdjsonArticleImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ArticleImportRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+
+        if (line == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(line, ArticleImportRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed import record - line: " + lineNumber + ", " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,120 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kimbos.onlinecommunity.domain.enums.SearchType;
+import com.kimbos.onlinecommunity.utils.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of article search result pages, keyed by search type, keyword, page and sort.
+ * Only the article ids and the total are kept; callers load the rows by id, so titles and counters are always fresh.
+ * <p>
+ * Hashtag searches are evicted when an article write touches one of their hashtags, author searches on every
+ * article insert or delete. A page loaded while an eviction happened is not stored, so it cannot outlive the write.
+ * Hit, miss and eviction counts are published as {@code cache.*} meters with {@code cache=articleSearch}.
+ */
+public class ArticleSearchCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "articleSearch";
+    private static final String AUTHOR_TAG = "@author";
+
+    private final Cache<Key, Page<Long>> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ArticleSearchCache(long maximumSize, Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    public Optional<Page<Long>> get(Key key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * Read before loading a page and hand it to {@link #put}.
+     */
+    public long stamp() {
+        return evictions.get();
+    }
+
+    /**
+     * Store a page unless an eviction happened since {@code stamp} was read, because the page may predate that write.
+     */
+    public void put(Key key, Page<Long> articleIds, long stamp) {
+        cache.put(key, articleIds);
+        // Checked after the put, so an eviction running concurrently either sees the entry or fails this check
+        if (evictions.get() != stamp) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Evict searches of the given hashtags once the surrounding transaction commits.
+     */
+    public void evictHashtags(Collection<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return;
+        }
+        List<String> tags = List.copyOf(hashtagNames);
+        AfterCommit.run(() -> evictTags(tags));
+    }
+
+    /**
+     * Evict author searches once the surrounding transaction commits.
+     */
+    public void evictAuthorSearches() {
+        AfterCommit.run(() -> evictTags(List.of(AUTHOR_TAG)));
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    // Writes are rare next to searches, and the cache is bounded, so a scan of the keys is cheap enough
+    private void evictTags(Collection<String> tags) {
+        evictions.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> !Collections.disjoint(key.tags(), tags));
+    }
+
+
+    public record Key(SearchType searchType, String keyword, int page, int size, Sort sort) {
+
+        public static Key of(SearchType searchType, String keyword, Pageable pageable) {
+            return new Key(searchType, keyword, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+
+        /**
+         * Writes that evict this page: the searched hashtags, or any author change for user id and nickname searches.
+         */
+        Set<String> tags() {
+            if (searchType == SearchType.HASHTAG) {
+                return Set.copyOf(Arrays.asList(keyword.split(" ")));
+            }
+            return Set.of(AUTHOR_TAG);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import com.kimbos.onlinecommunity.domain.Article;
+import com.kimbos.onlinecommunity.domain.enums.SearchType;
+import com.kimbos.onlinecommunity.dto.ArticleCursor;
+import com.kimbos.onlinecommunity.dto.ArticleIndexDto;
+import com.kimbos.onlinecommunity.repository.ArticleRepository;
+import com.kimbos.onlinecommunity.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Full-text index of article titles and contents, kept in sync with article writes.
+ * Index changes are applied after the surrounding transaction commits, so a rolled back write never shows up in search.
+ * Text is split by {@link NgramTokenizer}, so Korean substrings are found without a table scan.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final InvertedIndex titleIndex = new InvertedIndex(new NgramTokenizer());
+    private final InvertedIndex contentIndex = new InvertedIndex(new NgramTokenizer());
+    private final Map<Long, LocalDateTime> createdAtById = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the indexed columns in batches of {@value #REBUILD_PAGE_SIZE} by id. Each batch is a short query of its
+     * own, and no entity is loaded, so nothing piles up in a persistence context however many articles there are.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        titleIndex.clear();
+        contentIndex.clear();
+        createdAtById.clear();
+
+        Pageable batch = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        long lastId = Long.MIN_VALUE;
+        List<ArticleIndexDto> rows;
+        do {
+            rows = articleRepository.findIndexRowsAfter(lastId, batch);
+            rows.forEach(row -> put(row.id(), row.title(), row.content(), row.createdAt()));
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } while (rows.size() == REBUILD_PAGE_SIZE);
+
+        log.info("Article search index is built - documents: {}", titleIndex.size());
+    }
+
+    public void index(Article article) {
+        AfterCommit.run(() -> put(article));
+    }
+
+    /**
+     * For rows written without an entity, e.g. by the bulk importer.
+     */
+    public void index(long articleId, String title, String content, LocalDateTime createdAt) {
+        AfterCommit.run(() -> put(articleId, title, content, createdAt));
+    }
+
+    public void remove(Long articleId) {
+        AfterCommit.run(() -> {
+            titleIndex.remove(articleId);
+            contentIndex.remove(articleId);
+            createdAtById.remove(articleId);
+        });
+    }
+
+    public Page<Long> search(SearchType searchType, String keyword, Pageable pageable) {
+        InvertedIndex index = indexOf(searchType);
+        InvertedIndex.SearchResult result = index.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+
+        return new PageImpl<>(
+                result.hits().stream().map(InvertedIndex.Hit::docId).toList(),
+                pageable,
+                result.totalHits()
+        );
+    }
+
+    /**
+     * Keyset page of matching article ids ordered by {@code createdAt DESC, id DESC}, starting right after the cursor.
+     * Only the matches are visited and only {@code limit} of them are kept.
+     */
+    public List<Long> searchAfter(SearchType searchType, String keyword, ArticleCursor cursor, int limit) {
+        Comparator<ArticleCursor> newestFirst = Comparator
+                .comparing(ArticleCursor::createdAt)
+                .thenComparing(ArticleCursor::id)
+                .reversed();
+        PriorityQueue<ArticleCursor> page = new PriorityQueue<>(newestFirst.reversed());
+
+        indexOf(searchType).forEachMatch(keyword, articleId -> {
+            LocalDateTime createdAt = createdAtById.get(articleId);
+            if (createdAt == null) {
+                return;
+            }
+
+            ArticleCursor position = ArticleCursor.of(createdAt, articleId);
+            if (cursor != null && newestFirst.compare(position, cursor) <= 0) {
+                return;
+            }
+            if (page.size() < limit) {
+                page.add(position);
+            } else if (limit > 0 && newestFirst.compare(position, page.peek()) < 0) {
+                page.poll();
+                page.add(position);
+            }
+        });
+
+        List<ArticleCursor> positions = new ArrayList<>(page);
+        positions.sort(newestFirst);
+
+        return positions.stream().map(ArticleCursor::id).toList();
+    }
+
+    private InvertedIndex indexOf(SearchType searchType) {
+        return switch (searchType) {
+            case TITLE -> titleIndex;
+            case CONTENT -> contentIndex;
+            default -> throw new IllegalArgumentException("Search type is not indexed - searchType: " + searchType);
+        };
+    }
+
+    private void put(Article article) {
+        put(article.getId(), article.getTitle(), article.getContent(), article.getCreatedAt());
+    }
+
+    private void put(long articleId, String title, String content, LocalDateTime createdAt) {
+        titleIndex.add(articleId, title);
+        contentIndex.add(articleId, content);
+        if (createdAt != null) {
+            createdAtById.put(articleId, createdAt);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import com.kimbos.onlinecommunity.domain.Comment;
+import com.kimbos.onlinecommunity.dto.CommentIndexDto;
+import com.kimbos.onlinecommunity.repository.CommentRepository;
+import com.kimbos.onlinecommunity.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Full-text index of comment contents, tokenized the same way as {@link ArticleSearchIndex}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CommentSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final CommentRepository commentRepository;
+    private final InvertedIndex contentIndex = new InvertedIndex(new NgramTokenizer());
+
+    /**
+     * Reads the comment contents in batches by id, without loading entities, like {@link ArticleSearchIndex#rebuild()}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        contentIndex.clear();
+
+        Pageable batch = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        long lastId = Long.MIN_VALUE;
+        List<CommentIndexDto> rows;
+        do {
+            rows = commentRepository.findIndexRowsAfter(lastId, batch);
+            rows.forEach(row -> contentIndex.add(row.id(), row.content()));
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } while (rows.size() == REBUILD_PAGE_SIZE);
+
+        log.info("Comment search index is built - documents: {}", contentIndex.size());
+    }
+
+    /**
+     * Replies are inserted by cascade when the transaction flushes, so the id is read only after commit.
+     */
+    public void index(Comment comment) {
+        AfterCommit.run(() -> put(comment));
+    }
+
+    /**
+     * For rows written without an entity, e.g. by the bulk importer.
+     */
+    public void index(long commentId, String content) {
+        AfterCommit.run(() -> contentIndex.add(commentId, content));
+    }
+
+    public void remove(Long commentId) {
+        AfterCommit.run(() -> contentIndex.remove(commentId));
+    }
+
+    public Page<Long> search(String keyword, Pageable pageable) {
+        InvertedIndex.SearchResult result = contentIndex.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+
+        return new PageImpl<>(
+                result.hits().stream().map(InvertedIndex.Hit::docId).toList(),
+                pageable,
+                result.totalHits()
+        );
+    }
+
+    private void put(Comment comment) {
+        if (comment.getId() != null) {
+            contentIndex.add(comment.getId(), comment.getContent());
+        }
+    }
+}
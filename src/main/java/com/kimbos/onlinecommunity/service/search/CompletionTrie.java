@@ -0,0 +1,297 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix completions of weighted terms.
+ * A radix tree: chains of single-child nodes are merged into one edge labelled with the whole substring, so the tree
+ * has fewer nodes than terms. Every node keeps the best {@code maxCompletions} terms of its subtree, so a lookup
+ * walks at most the prefix and copies one precomputed list, however many terms share the prefix.
+ * <p>
+ * Weights are counts: {@link #add(String, long)} moves a term's weight by a delta, and a term whose weight drops to
+ * zero is removed. Only the nodes on the path of the term are recomputed.
+ */
+public class CompletionTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final String[] NO_TERMS = new String[0];
+    private static final long[] NO_WEIGHTS = new long[0];
+
+    private final int maxCompletions;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+    private int size;
+
+    public CompletionTrie(int maxCompletions) {
+        if (maxCompletions < 1) {
+            throw new IllegalArgumentException("Completion trie keeps at least one completion - maxCompletions: " + maxCompletions);
+        }
+        this.maxCompletions = maxCompletions;
+        this.root = new Node("");
+    }
+
+    public record Completion(String term, long weight) {}
+
+    public void add(String term, long delta) {
+        if (term == null || term.isEmpty() || delta == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            addLocked(term, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return up to {@code limit} terms starting with the prefix, heaviest first, then in alphabetical order
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = find(prefix == null ? "" : prefix);
+            if (node == null) {
+                return List.of();
+            }
+
+            int count = Math.min(Math.min(limit, maxCompletions), node.completionCount);
+            List<Completion> completions = new ArrayList<>(Math.max(count, 0));
+            for (int i = 0; i < count; i++) {
+                completions.add(new Completion(node.completionTerms[i], node.completionWeights[i]));
+            }
+            return completions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long weightOf(String term) {
+        lock.readLock().lock();
+        try {
+            Node node = find(term);
+            return node != null && term.equals(node.term) ? node.weight : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = new Node("");
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(String term, long delta) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < term.length()) {
+            int index = node.indexOf(term.charAt(i));
+            if (index < 0) {
+                if (delta < 0) {
+                    return;
+                }
+                Node leaf = new Node(term.substring(i));
+                node.insertChild(-index - 1, leaf);
+                node = leaf;
+                i = term.length();
+            } else {
+                Node child = node.children[index];
+                int common = commonPrefixLength(child.label, term, i);
+                if (common < child.label.length()) {
+                    if (delta < 0) {
+                        return;
+                    }
+                    // The term leaves the edge in the middle: split it at the fork
+                    Node fork = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    fork.children = new Node[]{child};
+                    fork.copyCompletions(child);
+                    node.children[index] = fork;
+                    child = fork;
+                }
+                node = child;
+                i += common;
+            }
+            path.add(node);
+        }
+
+        if (node.term == null && delta < 0) {
+            return;
+        }
+        long weight = node.weight + delta;
+        if (node.term == null) {
+            size++;
+        }
+        if (weight > 0) {
+            node.term = term;
+            node.weight = weight;
+        } else {
+            node.term = null;
+            node.weight = 0;
+            size--;
+        }
+
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (current.term == null && current.children.length == 0) {
+                parent.removeChild(current);
+            } else if (current.term == null && current.children.length == 1) {
+                // A node that no longer forks or ends a term is merged into its only child
+                Node only = current.children[0];
+                only.label = current.label + only.label;
+                parent.children[parent.indexOf(only.label.charAt(0))] = only;
+            } else {
+                current.recomputeCompletions(maxCompletions);
+            }
+        }
+        root.recomputeCompletions(maxCompletions);
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = node.indexOf(prefix.charAt(i));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                // The prefix ends on or inside this edge, so every completion is below it
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String label, String term, int offset) {
+        int max = Math.min(label.length(), term.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == term.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private String term;
+        private long weight;
+        private String[] completionTerms = NO_TERMS;
+        private long[] completionWeights = NO_WEIGHTS;
+        private int completionCount;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        // Children are sorted by the first character of their label, which is unique among siblings
+        int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midFirst = children[mid].label.charAt(0);
+                if (midFirst < first) {
+                    low = mid + 1;
+                } else if (midFirst > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        void removeChild(Node child) {
+            int index = indexOf(child.label.charAt(0));
+            Node[] shrunk = children.length == 1 ? NO_CHILDREN : new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk;
+        }
+
+        void copyCompletions(Node other) {
+            completionTerms = other.completionTerms.clone();
+            completionWeights = other.completionWeights.clone();
+            completionCount = other.completionCount;
+        }
+
+        /**
+         * Best terms among this node's own term and the best terms of each child; subtrees never share a term.
+         */
+        void recomputeCompletions(int maxCompletions) {
+            int candidates = term == null ? 0 : 1;
+            for (Node child : children) {
+                candidates += child.completionCount;
+            }
+            String[] terms = new String[candidates];
+            long[] weights = new long[candidates];
+            int n = 0;
+            if (term != null) {
+                terms[n] = term;
+                weights[n++] = weight;
+            }
+            for (Node child : children) {
+                System.arraycopy(child.completionTerms, 0, terms, n, child.completionCount);
+                System.arraycopy(child.completionWeights, 0, weights, n, child.completionCount);
+                n += child.completionCount;
+            }
+
+            Integer[] order = new Integer[candidates];
+            for (int i = 0; i < candidates; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> weights[a] != weights[b]
+                    ? Long.compare(weights[b], weights[a])
+                    : terms[a].compareTo(terms[b]));
+
+            int count = Math.min(candidates, maxCompletions);
+            completionTerms = new String[count];
+            completionWeights = new long[count];
+            for (int i = 0; i < count; i++) {
+                completionTerms[i] = terms[order[i]];
+                completionWeights[i] = weights[order[i]];
+            }
+            completionCount = count;
+        }
+    }
+}
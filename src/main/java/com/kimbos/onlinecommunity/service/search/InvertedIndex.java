@@ -0,0 +1,395 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+/**
+ * In-memory inverted index over {@code long} document ids.
+ * Every term keeps a postings list sorted by document id, so a query only touches the postings of its own terms
+ * and the documents that match all of them. Results are ranked by BM25.
+ * The {@link Tokenizer#positionedTerms(String) positioned terms} also keep where they occur in each document,
+ * so that candidates can be checked against the {@link Tokenizer#phrasesOf(String) phrases} of a query their terms
+ * can't tell apart, without keeping the text itself.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::docId).reversed());
+
+    private final Tokenizer tokenizer;
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public InvertedIndex(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public void add(long docId, String text) {
+        Map<String, Integer> termFrequencies = countTerms(tokenizer.tokenize(text));
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        Map<String, int[]> termPositions = collectPositions(tokenizer.positionedTerms(text));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            // Documents point at the shared postings instead of their own copies of the term strings
+            Postings[] postingsOfDocument = new Postings[termFrequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                Postings postings = postingsByTerm.computeIfAbsent(entry.getKey(), Postings::new);
+                postings.put(docId, entry.getValue(), termPositions.get(entry.getKey()));
+                postingsOfDocument[i++] = postings;
+            }
+            documents.put(docId, new Document(postingsOfDocument, length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postingsByTerm.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return every document containing all terms of the query, best match first.
+     * Documents with the same score are ordered by descending id, which means newer documents come first.
+     */
+    public List<Hit> search(String query) {
+        List<Hit> hits = new ArrayList<>();
+        intersect(query, (docId, score) -> hits.add(new Hit(docId, score)));
+        hits.sort(BEST_FIRST);
+
+        return hits;
+    }
+
+    /**
+     * Return one page of {@link #search(String)} without sorting every match.
+     * Only {@code offset + limit} hits are kept in a bounded heap while the postings are intersected.
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        int capacity = offset + limit;
+        PriorityQueue<Hit> best = new PriorityQueue<>(Math.max(1, Math.min(capacity, 1024)), BEST_FIRST.reversed());
+        int[] totalHits = new int[1];
+        intersect(query, (docId, score) -> {
+            totalHits[0]++;
+            if (capacity == 0) {
+                return;
+            }
+
+            Hit hit = new Hit(docId, score);
+            if (best.size() < capacity) {
+                best.add(hit);
+            } else if (BEST_FIRST.compare(hit, best.peek()) < 0) {
+                best.poll();
+                best.add(hit);
+            }
+        });
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(BEST_FIRST);
+
+        return new SearchResult(hits.subList(Math.min(offset, hits.size()), hits.size()), totalHits[0]);
+    }
+
+    /**
+     * Visit every document containing all terms of the query in ascending id order, without ranking.
+     */
+    public void forEachMatch(String query, LongConsumer consumer) {
+        intersect(query, (docId, score) -> consumer.accept(docId));
+    }
+
+    private void intersect(String query, HitConsumer consumer) {
+        Set<String> terms = new LinkedHashSet<>(tokenizer.tokenizeQuery(query));
+        if (terms.isEmpty()) {
+            return;
+        }
+        List<List<Tokenizer.PositionedTerm>> phrases = tokenizer.phrasesOf(query).stream()
+                .map(tokenizer::positionedTerms)
+                .filter(parts -> !parts.isEmpty())
+                .toList();
+
+        lock.readLock().lock();
+        try {
+            List<Postings> postingsList = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    return;
+                }
+                postingsList.add(postings);
+            }
+            postingsList.sort(Comparator.comparingInt(Postings::size));
+            Map<String, Integer> indexOfTerm = new HashMap<>();
+            for (int p = 0; p < postingsList.size(); p++) {
+                indexOfTerm.put(postingsList.get(p).term, p);
+            }
+
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+            double[] idf = postingsList.stream()
+                    .mapToDouble(postings -> Math.log(1 + (documentCount - postings.size() + 0.5) / (postings.size() + 0.5)))
+                    .toArray();
+
+            // Drive the intersection from the shortest postings list
+            Postings shortest = postingsList.get(0);
+            int[] cursors = new int[postingsList.size()];
+            candidates:
+            for (int i = 0; i < shortest.size(); i++) {
+                long docId = shortest.docIds[i];
+                cursors[0] = i;
+                double length = documents.get(docId).length();
+                double score = bm25(shortest.frequencies[i], length, averageLength) * idf[0];
+
+                for (int p = 1; p < postingsList.size(); p++) {
+                    Postings postings = postingsList.get(p);
+                    int found = postings.seek(docId, cursors[p]);
+                    if (found < 0) {
+                        cursors[p] = -found - 1;
+                        continue candidates;
+                    }
+                    cursors[p] = found;
+                    score += bm25(postings.frequencies[found], length, averageLength) * idf[p];
+                }
+                for (List<Tokenizer.PositionedTerm> parts : phrases) {
+                    if (!containsPhrase(parts, postingsList, indexOfTerm, cursors)) {
+                        continue candidates;
+                    }
+                }
+                consumer.accept(docId, score);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the terms of the phrase occur in the document at the same distances from each other as in the phrase.
+     * {@code cursors} hold where the document is in every postings list.
+     */
+    private static boolean containsPhrase(
+            List<Tokenizer.PositionedTerm> parts,
+            List<Postings> postingsList,
+            Map<String, Integer> indexOfTerm,
+            int[] cursors
+    ) {
+        Tokenizer.PositionedTerm first = parts.get(0);
+        int firstIndex = indexOfTerm.get(first.term());
+        starts:
+        for (int position : postingsList.get(firstIndex).positionsAt(cursors[firstIndex])) {
+            int origin = position - first.position();
+            for (int k = 1; k < parts.size(); k++) {
+                Tokenizer.PositionedTerm part = parts.get(k);
+                int index = indexOfTerm.get(part.term());
+                if (!postingsList.get(index).hasPosition(cursors[index], origin + part.position())) {
+                    continue starts;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void removeInternal(long docId) {
+        Document document = documents.remove(docId);
+        if (document == null) {
+            return;
+        }
+
+        for (Postings postings : document.postings()) {
+            if (postings.remove(docId) && postings.size() == 0) {
+                postingsByTerm.remove(postings.term);
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private static double bm25(int frequency, double length, double averageLength) {
+        double normalization = averageLength == 0 ? 1 : 1 - B + B * length / averageLength;
+        return frequency * (K1 + 1) / (frequency + K1 * normalization);
+    }
+
+    private static Map<String, Integer> countTerms(List<String> tokens) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        tokens.forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+        return termFrequencies;
+    }
+
+    private static Map<String, int[]> collectPositions(List<Tokenizer.PositionedTerm> terms) {
+        Map<String, List<Integer>> positions = new HashMap<>();
+        terms.forEach(term -> positions.computeIfAbsent(term.term(), key -> new ArrayList<>()).add(term.position()));
+
+        Map<String, int[]> sortedPositions = new HashMap<>();
+        positions.forEach((term, list) -> sortedPositions.put(term, list.stream().mapToInt(Integer::intValue).sorted().toArray()));
+        return sortedPositions;
+    }
+
+
+    public record Hit(long docId, double score) {}
+
+    public record SearchResult(List<Hit> hits, int totalHits) {}
+
+    @FunctionalInterface
+    private interface HitConsumer {
+        void accept(long docId, double score);
+    }
+
+    private record Document(Postings[] postings, int length) {}
+
+    /**
+     * Parallel primitive arrays sorted by document id. Ids are mostly appended in increasing order,
+     * so adding a new document is usually an amortized O(1) append.
+     * Positioned terms also keep the first position of the term in every document in a primitive array, and only the
+     * documents containing the term more than once get an array of their other positions.
+     */
+    private static final class Postings {
+
+        private static final int[] NO_POSITIONS = new int[0];
+
+        private final String term;
+        private long[] docIds = new long[4];
+        private int[] frequencies = new int[4];
+        private int[] firstPositions;
+        private int[][] morePositions;
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * @param positions sorted positions of the term in the document, or {@code null} if the term has none
+         */
+        void put(long docId, int frequency, int[] positions) {
+            int index = size == 0 || docIds[size - 1] < docId ? -size - 1 : Arrays.binarySearch(docIds, 0, size, docId);
+            if (index < 0) {
+                index = -index - 1;
+                if (size == docIds.length) {
+                    docIds = Arrays.copyOf(docIds, size * 2);
+                    frequencies = Arrays.copyOf(frequencies, size * 2);
+                    if (firstPositions != null) {
+                        firstPositions = Arrays.copyOf(firstPositions, size * 2);
+                    }
+                    if (morePositions != null) {
+                        morePositions = Arrays.copyOf(morePositions, size * 2);
+                    }
+                }
+                shift(index, index + 1, size - index);
+                size++;
+            }
+
+            docIds[index] = docId;
+            frequencies[index] = frequency;
+            if (positions == null || positions.length == 0) {
+                return;
+            }
+            if (firstPositions == null) {
+                firstPositions = new int[docIds.length];
+            }
+            firstPositions[index] = positions[0];
+            if (positions.length > 1 && morePositions == null) {
+                morePositions = new int[docIds.length][];
+            }
+            if (morePositions != null) {
+                morePositions[index] = positions.length > 1 ? Arrays.copyOfRange(positions, 1, positions.length) : null;
+            }
+        }
+
+        boolean remove(long docId) {
+            int index = Arrays.binarySearch(docIds, 0, size, docId);
+            if (index < 0) {
+                return false;
+            }
+
+            shift(index + 1, index, size - index - 1);
+            size--;
+            if (morePositions != null) {
+                morePositions[size] = null;
+            }
+            return true;
+        }
+
+        int[] positionsAt(int index) {
+            if (firstPositions == null) {
+                return NO_POSITIONS;
+            }
+            int[] more = morePositions == null ? null : morePositions[index];
+            if (more == null) {
+                return new int[]{firstPositions[index]};
+            }
+
+            int[] positions = new int[more.length + 1];
+            positions[0] = firstPositions[index];
+            System.arraycopy(more, 0, positions, 1, more.length);
+            return positions;
+        }
+
+        boolean hasPosition(int index, int position) {
+            if (firstPositions == null) {
+                return false;
+            }
+            if (firstPositions[index] == position) {
+                return true;
+            }
+            int[] more = morePositions == null ? null : morePositions[index];
+            return more != null && Arrays.binarySearch(more, position) >= 0;
+        }
+
+        private void shift(int from, int to, int length) {
+            System.arraycopy(docIds, from, docIds, to, length);
+            System.arraycopy(frequencies, from, frequencies, to, length);
+            if (firstPositions != null) {
+                System.arraycopy(firstPositions, from, firstPositions, to, length);
+            }
+            if (morePositions != null) {
+                System.arraycopy(morePositions, from, morePositions, to, length);
+            }
+        }
+
+        /**
+         * Galloping search from {@code from}. Same contract as {@link Arrays#binarySearch(long[], int, int, long)}.
+         */
+        int seek(long docId, int from) {
+            int bound = 1;
+            while (from + bound < size && docIds[from + bound] < docId) {
+                bound <<= 1;
+            }
+            return Arrays.binarySearch(docIds, from + (bound >> 1), Math.min(from + bound + 1, size), docId);
+        }
+    }
+}
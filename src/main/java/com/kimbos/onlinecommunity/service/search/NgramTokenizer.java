@@ -0,0 +1,124 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Korean-aware tokenizer.
+ * Runs of Hangul syllables are indexed as character bigrams and trigrams, so that any substring of two or more
+ * syllables can be looked up without knowing where Korean words and particles start and end.
+ * The first syllable of every run is indexed too, so that a one syllable keyword finds the words starting with it.
+ * Latin letters and digits are split into lower-cased words.
+ */
+public class NgramTokenizer implements Tokenizer {
+
+    @Override
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(text, (run, start, hangul) -> {
+            if (!hangul) {
+                tokens.add(run.toLowerCase(Locale.ROOT));
+                return;
+            }
+
+            tokens.add(run.substring(0, 1));
+            for (int i = 0; i + 2 <= run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+            for (int i = 0; i + 3 <= run.length(); i++) {
+                tokens.add(run.substring(i, i + 3));
+            }
+        });
+
+        return tokens;
+    }
+
+    /**
+     * Hangul keywords only need their trigrams: every trigram of a substring is a trigram of the text containing it.
+     * One or two syllable keywords fall back to the unigram or the bigram.
+     * Trigrams alone don't say whether they are next to each other, so longer keywords are also returned by
+     * {@link #phrasesOf(String)}.
+     */
+    @Override
+    public List<String> tokenizeQuery(String query) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(query, (run, start, hangul) -> {
+            if (!hangul) {
+                tokens.add(run.toLowerCase(Locale.ROOT));
+            } else if (run.length() <= 2) {
+                tokens.add(run);
+            } else {
+                for (int i = 0; i + 3 <= run.length(); i++) {
+                    tokens.add(run.substring(i, i + 3));
+                }
+            }
+        });
+
+        return tokens;
+    }
+
+    /**
+     * Hangul keywords of three or more syllables: a document can contain all of their trigrams in different places.
+     */
+    @Override
+    public List<String> phrasesOf(String query) {
+        List<String> phrases = new ArrayList<>();
+        forEachRun(query, (run, start, hangul) -> {
+            if (hangul && run.length() >= 3) {
+                phrases.add(run);
+            }
+        });
+
+        return phrases;
+    }
+
+    /**
+     * Hangul trigrams with their offsets in the text: the trigrams of a phrase sit at consecutive offsets.
+     */
+    @Override
+    public List<PositionedTerm> positionedTerms(String text) {
+        List<PositionedTerm> terms = new ArrayList<>();
+        forEachRun(text, (run, start, hangul) -> {
+            if (hangul) {
+                for (int i = 0; i + 3 <= run.length(); i++) {
+                    terms.add(new PositionedTerm(run.substring(i, i + 3), start + i));
+                }
+            }
+        });
+
+        return terms;
+    }
+
+    private static void forEachRun(String text, RunConsumer consumer) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        int start = -1;
+        boolean startIsHangul = false;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            boolean hangul = isHangul(c);
+            boolean tokenChar = hangul || Character.isLetterOrDigit(c);
+
+            if (start >= 0 && (!tokenChar || hangul != startIsHangul)) {
+                consumer.accept(text.substring(start, i), start, startIsHangul);
+                start = -1;
+            }
+            if (tokenChar && start < 0) {
+                start = i;
+                startIsHangul = hangul;
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(String run, int start, boolean hangul);
+    }
+}
@@ -0,0 +1,169 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import com.kimbos.onlinecommunity.dto.HashtagIndexDto;
+import com.kimbos.onlinecommunity.dto.NicknameIndexDto;
+import com.kimbos.onlinecommunity.dto.SuggestionDto;
+import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import com.kimbos.onlinecommunity.utils.AfterCommit;
+import com.kimbos.onlinecommunity.utils.HashtagScanner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Autocomplete of hashtag names and author nicknames from two {@link CompletionTrie}s, kept in sync with writes.
+ * Hashtags are weighted by their article count and nicknames by the number of users that have them.
+ * Changes are applied after the surrounding transaction commits, so a rolled back write is never suggested.
+ * <p>
+ * {@link #rebuild()} runs at startup and after every repair of the hashtag article counts, which evens out weights
+ * that drifted. It fills new tries while the current ones keep serving, then swaps them in at once.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SuggestionIndex {
+
+    static final int MAX_SUGGESTIONS = 10;
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    private final HashtagRepository hashtagRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final Object lock = new Object();
+    private volatile Tries tries = Tries.empty();
+    // Changes applied while a rebuild reads the rows, replayed on the new tries; null when no rebuild is running
+    private List<Consumer<Tries>> changesDuringRebuild;
+
+    /**
+     * Reads hashtags and nicknames in batches by key, without loading entities, like {@link ArticleSearchIndex#rebuild()}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Tries rebuilt = Tries.empty();
+        try {
+            Pageable batch = PageRequest.of(0, REBUILD_PAGE_SIZE);
+            long lastHashtagId = Long.MIN_VALUE;
+            List<HashtagIndexDto> hashtags;
+            do {
+                hashtags = hashtagRepository.findIndexRowsAfter(lastHashtagId, batch);
+                hashtags.forEach(hashtag -> rebuilt.hashtags().add(hashtagKey(hashtag.hashtagName()), hashtag.articleCount()));
+                if (!hashtags.isEmpty()) {
+                    lastHashtagId = hashtags.get(hashtags.size() - 1).id();
+                }
+            } while (hashtags.size() == REBUILD_PAGE_SIZE);
+
+            String lastUserId = "";
+            List<NicknameIndexDto> nicknames;
+            do {
+                nicknames = userAccountRepository.findNicknamesAfter(lastUserId, batch);
+                nicknames.forEach(nickname -> rebuilt.nicknames().add(nickname.nickname(), 1));
+                if (!nicknames.isEmpty()) {
+                    lastUserId = nicknames.get(nicknames.size() - 1).userId();
+                }
+            } while (nicknames.size() == REBUILD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (lock) {
+            // A change the rows already showed is counted twice until the next rebuild, but none is lost
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            tries = rebuilt;
+        }
+        log.info("Suggestion index is built - hashtags: {}, nicknames: {}", rebuilt.hashtags().size(), rebuilt.nicknames().size());
+    }
+    /**
+     * Articles tagged ({@code delta > 0}) or untagged ({@code delta < 0}) with the named hashtags.
+     */
+    public void addHashtags(Collection<String> hashtagNames, int delta) {
+        if (hashtagNames.isEmpty()) {
+            return;
+        }
+        List<String> names = List.copyOf(hashtagNames);
+        apply(current -> names.forEach(hashtagName -> current.hashtags().add(hashtagKey(hashtagName), delta)));
+    }
+
+    /**
+     * Articles tagged per hashtag name, e.g. by one batch of the bulk importer.
+     */
+    public void addHashtags(Map<String, Integer> articleCounts) {
+        if (articleCounts.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> counts = Map.copyOf(articleCounts);
+        apply(current -> counts.forEach((hashtagName, delta) -> current.hashtags().add(hashtagKey(hashtagName), delta)));
+    }
+
+    /**
+     * @param previousNickname nickname the user had before, or {@code null} for a new user
+     */
+    public void changeNickname(String previousNickname, String nickname) {
+        if (Objects.equals(previousNickname, nickname)) {
+            return;
+        }
+        apply(current -> {
+            current.nicknames().add(previousNickname, -1);
+            current.nicknames().add(nickname, 1);
+        });
+    }
+
+    /**
+     * @param prefix typed like a hashtag, with or without the leading {@code #}; case is ignored
+     */
+    public List<SuggestionDto> suggestHashtags(String prefix, int limit) {
+        return suggest(tries.hashtags(), hashtagKey(HashtagScanner.normalize(prefix)), limit);
+    }
+
+    public List<SuggestionDto> suggestNicknames(String prefix, int limit) {
+        return suggest(tries.nicknames(), prefix == null ? "" : prefix.strip(), limit);
+    }
+
+    private void apply(Consumer<Tries> change) {
+        AfterCommit.run(() -> {
+            synchronized (lock) {
+                change.accept(tries);
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.add(change);
+                }
+            }
+        });
+    }
+
+    // Hashtag names are compared case-insensitively by the database collation, so the trie folds case too
+    private static String hashtagKey(String hashtagName) {
+        return hashtagName.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<SuggestionDto> suggest(CompletionTrie trie, String prefix, int limit) {
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        return trie.complete(prefix, limit).stream()
+                .map(completion -> SuggestionDto.of(completion.term(), completion.weight()))
+                .toList();
+    }
+
+
+    private record Tries(CompletionTrie hashtags, CompletionTrie nicknames) {
+
+        static Tries empty() {
+            return new Tries(new CompletionTrie(MAX_SUGGESTIONS), new CompletionTrie(MAX_SUGGESTIONS));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface Tokenizer {
+
+    /**
+     * Split text into index terms. Duplicated terms are kept so that the caller can count term frequency.
+     */
+    List<String> tokenize(String text);
+
+    /**
+     * Split a search keyword into the terms that must all be present in a matching document.
+     */
+    default List<String> tokenizeQuery(String query) {
+        return tokenize(query);
+    }
+
+    /**
+     * Parts of a search keyword a matching document must contain as they are.
+     * Needed when the query terms can all be present in a document without being next to each other.
+     */
+    default List<String> phrasesOf(String query) {
+        return List.of();
+    }
+
+    /**
+     * Terms whose character offsets the index keeps, so that a phrase can be matched by where its terms are.
+     * Every phrase must be made of these terms.
+     */
+    default List<PositionedTerm> positionedTerms(String text) {
+        return List.of();
+    }
+
+    record PositionedTerm(String term, int position) {}
+}
@@ -0,0 +1,52 @@
+package com.kimbos.onlinecommunity.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch: approximate counts of any number of distinct items in {@code depth x width} counters.
+ * An estimate never undercounts; it overcounts by at most {@code e / width} of the total count with probability
+ * {@code 1 - e^-depth}. Rows are indexed by double hashing of one 64-bit hash.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("Count-Min Sketch needs at least one counter - depth: " + depth + ", width: " + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    public void add(String item, long count) {
+        long hash = Hashes.hash64(item);
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(indexOf(hash, row), count);
+        }
+    }
+
+    public long estimate(String item) {
+        long hash = Hashes.hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(indexOf(hash, row)));
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private int indexOf(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+}
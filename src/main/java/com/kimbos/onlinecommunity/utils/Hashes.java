@@ -0,0 +1,23 @@
+package com.kimbos.onlinecommunity.utils;
+
+public final class Hashes {
+
+    private Hashes() {}
+
+    /**
+     * 64-bit FNV-1a of the characters, finished with the MurmurHash3 mixer so every bit depends on the whole input.
+     */
+    public static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
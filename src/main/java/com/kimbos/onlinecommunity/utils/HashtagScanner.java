@@ -0,0 +1,67 @@
+package com.kimbos.onlinecommunity.utils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Finds hashtag names in text in a single pass, with the same results as matching {@code #[\w가-힣]+}
+ * ({@code \w} being ASCII letters, digits and underscore) and dropping the leading {@code #}.
+ * Nothing is compiled per call, and only the names themselves and the result set are allocated.
+ */
+public final class HashtagScanner {
+
+    private HashtagScanner() {}
+
+    public static Set<String> scan(String content) {
+        if (content == null) {
+            return Set.of();
+        }
+
+        Set<String> names = null;
+        int length = content.length();
+        int i = content.indexOf('#');
+        while (i >= 0 && i < length) {
+            int start = i + 1;
+            int end = start;
+            while (end < length && isHashtagChar(content.charAt(end))) {
+                end++;
+            }
+
+            if (end > start) {
+                if (names == null) {
+                    names = new HashSet<>();
+                }
+                names.add(content.substring(start, end));
+            }
+            // A name never contains '#', so the next one starts at or after the end of this one
+            i = content.indexOf('#', end);
+        }
+
+        return names == null ? Set.of() : Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * A hashtag name as typed by a user: surrounding whitespace and leading {@code #} are dropped.
+     */
+    public static String normalize(String hashtagName) {
+        if (hashtagName == null) {
+            return "";
+        }
+
+        String name = hashtagName.strip();
+        int start = 0;
+        while (start < name.length() && name.charAt(start) == '#') {
+            start++;
+        }
+        return name.substring(start);
+    }
+
+    static boolean isHashtagChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || (c >= '가' && c <= '힣');
+    }
+}
@@ -0,0 +1,178 @@
+package com.kimbos.onlinecommunity.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HyperLogLog distinct-count sketch with {@value #REGISTERS} one-byte registers, 4 KB however large the count,
+ * with a standard error of about 1.6%. Sketches merge by taking the larger register, so the merge of the sketches of
+ * several articles estimates their distinct readers together, and merging the same sketch twice changes nothing.
+ * <p>
+ * A new sketch starts sparse: it keeps only its non-empty registers as packed {@code index << 8 | rank} ints, and
+ * switches to the dense array once more than {@value #SPARSE_LIMIT} are set, so a sketch that saw a handful of values
+ * costs a few dozen bytes. Sparse updates take the sketch's lock; dense registers are updated by compare-and-set, so
+ * concurrent {@link #add}s need no lock.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTERS = 1 << PRECISION;
+    // At 1 KB of packed entries the dense array is only four times larger
+    static final int SPARSE_LIMIT = REGISTERS / 16;
+
+    private static final VarHandle REGISTER = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    // Null while the sketch is sparse, and never changes again once set
+    private volatile byte[] registers;
+    // Guarded by this, null once the sketch is dense
+    private int[] sparse;
+    private int sparseSize;
+    // Bumped whenever a register grows, so callers can tell whether the sketch changed since they last looked
+    private final AtomicLong version = new AtomicLong();
+
+    public HyperLogLog() {
+        this.sparse = new int[4];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length != REGISTERS) {
+            throw new IllegalArgumentException("HyperLogLog needs " + REGISTERS + " registers - length: " + bytes.length);
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public byte[] toBytes() {
+        byte[] dense = registers;
+        if (dense == null) {
+            synchronized (this) {
+                if (registers == null) {
+                    return expandSparse();
+                }
+                dense = registers;
+            }
+        }
+
+        byte[] bytes = new byte[REGISTERS];
+        for (int i = 0; i < REGISTERS; i++) {
+            bytes[i] = (byte) REGISTER.getVolatile(dense, i);
+        }
+        return bytes;
+    }
+
+    public void add(String value) {
+        addHash(Hashes.hash64(value));
+    }
+
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // The sentinel bit caps the rank at 64 - PRECISION + 1
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        raise(index, rank);
+    }
+
+    public void merge(HyperLogLog other) {
+        byte[] ranks = other.toBytes();
+        for (int i = 0; i < REGISTERS; i++) {
+            if (ranks[i] != 0) {
+                raise(i, ranks[i]);
+            }
+        }
+    }
+
+    public long estimate() {
+        byte[] dense = registers;
+        if (dense == null) {
+            dense = toBytes();
+        }
+
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTERS; i++) {
+            byte register = (byte) REGISTER.getVolatile(dense, i);
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // Small cardinalities leave registers empty, and linear counting is more accurate there
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    boolean isSparse() {
+        return registers == null;
+    }
+
+    private void raise(int index, byte rank) {
+        byte[] dense = registers;
+        if (dense == null) {
+            synchronized (this) {
+                if (registers == null) {
+                    raiseSparse(index, rank);
+                    return;
+                }
+                dense = registers;
+            }
+        }
+
+        byte current;
+        do {
+            current = (byte) REGISTER.getVolatile(dense, index);
+            if (current >= rank) {
+                return;
+            }
+        } while (!REGISTER.compareAndSet(dense, index, current, rank));
+        version.incrementAndGet();
+    }
+
+    // Called holding the lock while the sketch is sparse
+    private void raiseSparse(int index, byte rank) {
+        for (int i = 0; i < sparseSize; i++) {
+            if (sparse[i] >>> 8 == index) {
+                if ((sparse[i] & 0xFF) >= rank) {
+                    return;
+                }
+                sparse[i] = index << 8 | rank;
+                version.incrementAndGet();
+                return;
+            }
+        }
+
+        if (sparseSize == SPARSE_LIMIT) {
+            byte[] dense = expandSparse();
+            dense[index] = rank;
+            sparse = null;
+            // Published last, so a lock-free writer never sees the array before the sparse registers are in it
+            registers = dense;
+        } else {
+            if (sparseSize == sparse.length) {
+                sparse = Arrays.copyOf(sparse, Math.min(sparse.length * 2, SPARSE_LIMIT));
+            }
+            sparse[sparseSize++] = index << 8 | rank;
+        }
+        version.incrementAndGet();
+    }
+
+    private byte[] expandSparse() {
+        byte[] bytes = new byte[REGISTERS];
+        for (int i = 0; i < sparseSize; i++) {
+            bytes[sparse[i] >>> 8] = (byte) (sparse[i] & 0xFF);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+// Loads the replies of a comment one page at a time, so a large thread is never rendered at once.
+document.addEventListener('click', event => {
+    const button = event.target.closest('.load-replies');
+    if (button) {
+        loadReplies(button);
+    }
+});
+
+async function loadReplies(button) {
+    const page = Number(button.dataset.page || 0);
+    button.disabled = true;
+
+    const response = await fetch(`/comments/${button.dataset.commentId}/replies?page=${page}`, {
+        headers: {Accept: 'application/json'}
+    });
+    if (!response.ok) {
+        button.disabled = false;
+        return;
+    }
+
+    const body = await response.json();
+    const childComments = button.parentElement.querySelector(':scope > .child-comments');
+    body.replies.forEach(reply => childComments.append(renderReply(reply)));
+
+    if (body.hasNext) {
+        button.dataset.page = String(page + 1);
+        button.textContent = 'More replies';
+        button.disabled = false;
+    } else {
+        button.remove();
+    }
+}
+
+function renderReply(reply) {
+    const template = document.getElementById('reply-template');
+    const item = template.content.firstElementChild.cloneNode(true);
+
+    item.querySelector('strong').textContent = reply.nickname;
+    const time = item.querySelector('time');
+    time.dateTime = reply.createdAt;
+    time.textContent = reply.createdAt.replace('T', ' ').substring(0, 19);
+    item.querySelector('p').textContent = reply.content;
+
+    const deleteForm = item.querySelector('.reply-delete-form');
+    if (reply.userId === template.dataset.userId) {
+        deleteForm.action = `/comments/${reply.id}/delete`;
+    } else {
+        deleteForm.querySelector('button').remove();
+    }
+
+    item.querySelector('.parent-comment-id').value = reply.id;
+
+    const loadButton = item.querySelector('.load-replies');
+    if (reply.replyCount > 0) {
+        loadButton.dataset.commentId = reply.id;
+        loadButton.textContent = `Replies (${reply.replyCount})`;
+    } else {
+        loadButton.remove();
+    }
+
+    return item;
+}
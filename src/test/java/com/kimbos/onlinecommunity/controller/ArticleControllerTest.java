@@ -3,11 +3,16 @@ package com.kimbos.onlinecommunity.controller;
 import com.kimbos.onlinecommunity.config.TestSecurityConfig;
 import com.kimbos.onlinecommunity.domain.enums.FormStatus;
 import com.kimbos.onlinecommunity.domain.enums.SearchType;
+import com.kimbos.onlinecommunity.domain.enums.TrendWindow;
 import com.kimbos.onlinecommunity.dto.*;
 import com.kimbos.onlinecommunity.dto.request.ArticleRequest;
 import com.kimbos.onlinecommunity.dto.response.ArticleResponse;
+import com.kimbos.onlinecommunity.service.ArticleReaderCounter;
 import com.kimbos.onlinecommunity.service.ArticleService;
+import com.kimbos.onlinecommunity.service.ArticleViewCounter;
+import com.kimbos.onlinecommunity.service.CommentService;
 import com.kimbos.onlinecommunity.service.PaginationService;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
 import com.kimbos.onlinecommunity.utils.FormDataEncoder;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +22,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
@@ -28,8 +36,10 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -46,7 +56,11 @@ class ArticleControllerTest {
     private final FormDataEncoder formDataEncoder;
 
     @MockBean private ArticleService articleService;
+    @MockBean private CommentService commentService;
     @MockBean private PaginationService paginationService;
+    @MockBean private ArticleViewCounter articleViewCounter;
+    @MockBean private ArticleReaderCounter articleReaderCounter;
+    @MockBean private SuggestionIndex suggestionIndex;
 
     public ArticleControllerTest(
             @Autowired MockMvc mvc,
@@ -98,6 +112,44 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] Articles Page with Cursor - Ok Response with next cursor")
+    @Test
+    void viewGetArticlesPageWithCursorOkResponse() throws Exception {
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        ArticleCursor cursor = ArticleCursor.of(createdAt, 20L);
+        ArticleSummaryDto lastArticle = ArticleSummaryDto.of(15L, "title", Set.of("java"), createdAt.minusDays(1), "kim", "kim@mail.com", "Kim", 0);
+        given(articleService.searchArticles(eq(null), eq(null), eq(cursor), eq(10)))
+                .willReturn(new SliceImpl<>(List.of(lastArticle), PageRequest.of(0, 10), true));
+
+        mvc.perform(get("/articles").queryParam("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attribute("cursorMode", true))
+                .andExpect(model().attribute("nextCursor", ArticleCursor.of(lastArticle.createdAt(), lastArticle.id()).encode()))
+                .andExpect(model().attributeDoesNotExist("paginationBarNumbers"));
+
+        then(articleService).should().searchArticles(eq(null), eq(null), eq(cursor), eq(10));
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[view][GET] Articles Page with empty Cursor - Ok Response with the newest articles in cursor mode")
+    @Test
+    void viewGetArticlesPageWithEmptyCursorOkResponse() throws Exception {
+
+        given(articleService.searchArticles(eq(null), eq(null), eq(null), eq(10)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        mvc.perform(get("/articles").queryParam("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attribute("cursorMode", true))
+                .andExpect(model().attribute("nextCursor", (Object) null));
+
+        then(articleService).should().searchArticles(eq(null), eq(null), eq(null), eq(10));
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @DisplayName("[view][GET] Articles Page - Paging and Sort")
     @Test
     void viewGetArticlesPagePagingSort() throws Exception {
@@ -145,9 +197,12 @@ class ArticleControllerTest {
     public void viewGetArticlePageOkResponseWithAuthentication() throws Exception {
 
         Long articleId = 1L;
-        long totalCount = 1L;
-        given(articleService.getArticleWithComments(articleId)).willReturn(createArticleWithCommentsDto());
-        given(articleService.getArticleCount()).willReturn(totalCount);
+        ArticleDto articleDto = createDetailArticleDto();
+        given(articleService.getArticle(articleId)).willReturn(articleDto);
+        given(commentService.getRootComments(eq(articleId), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(createCommentDto()), PageRequest.of(0, 20), 1));
+        given(articleService.getPreviousArticleId(articleDto)).willReturn(Optional.of(7L));
+        given(articleService.getNextArticleId(articleDto)).willReturn(Optional.empty());
 
         mvc.perform(get("/articles/" + articleId))
                 .andExpect(status().isOk())
@@ -155,11 +210,75 @@ class ArticleControllerTest {
                 .andExpect(view().name("articles/detail"))
                 .andExpect(model().attributeExists("article"))
                 .andExpect(model().attributeExists("comments"))
-                .andExpect(model().attribute("totalCount", totalCount))
+                .andExpect(model().attribute("previousArticleId", 7L))
+                .andExpect(model().attribute("nextArticleId", nullValue()))
                 .andExpect(model().attribute("searchTypeHashtag", SearchType.HASHTAG));
 
-        then(articleService).should().getArticleWithComments(articleId);
-        then(articleService).should().getArticleCount();
+        then(articleService).should().getArticle(articleId);
+        then(commentService).should().getRootComments(eq(articleId), any(Pageable.class));
+        then(articleViewCounter).should().increment(articleId);
+        then(articleReaderCounter).should().record(eq(articleId), startsWith("session:"));
+    }
+
+    @WithUserDetails(value = "kim", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[view][GET] Article Page - Count Signed-in Reader by User Name")
+    @Test
+    public void viewGetArticlePageCountSignedInReaderByUserName() throws Exception {
+
+        Long articleId = 1L;
+        ArticleDto articleDto = createDetailArticleDto();
+        given(articleService.getArticle(articleId)).willReturn(articleDto);
+        given(commentService.getRootComments(eq(articleId), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.getPreviousArticleId(articleDto)).willReturn(Optional.empty());
+        given(articleService.getNextArticleId(articleDto)).willReturn(Optional.empty());
+
+        mvc.perform(get("/articles/" + articleId))
+                .andExpect(status().isOk());
+
+        then(articleReaderCounter).should().record(articleId, "user:kim");
+    }
+
+    @WithMockUser
+    @DisplayName("[json][GET] Article Readers - Estimated unique readers of the article")
+    @Test
+    public void jsonGetArticleReadersReturnEstimate() throws Exception {
+
+        given(articleReaderCounter.uniqueReaders(1L)).willReturn(42L);
+
+        mvc.perform(get("/articles/1/readers"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.articleId").value(1))
+                .andExpect(jsonPath("$.uniqueReaders").value(42));
+    }
+
+    @WithMockUser
+    @DisplayName("[json][GET] Hashtag Readers - Estimated unique readers across the tagged articles")
+    @Test
+    public void jsonGetHashtagReadersReturnEstimate() throws Exception {
+
+        given(articleReaderCounter.uniqueReadersOfHashtag("java")).willReturn(7L);
+
+        mvc.perform(get("/articles/readers").queryParam("hashtag", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hashtag").value("java"))
+                .andExpect(jsonPath("$.uniqueReaders").value(7));
+    }
+
+    @WithMockUser
+    @DisplayName("[view][GET] Article Page - Comments are paged by the page parameter")
+    @Test
+    public void viewGetArticlePageRequestsCommentPage() throws Exception {
+
+        Long articleId = 1L;
+        given(articleService.getArticle(articleId)).willReturn(createDetailArticleDto());
+        given(commentService.getRootComments(eq(articleId), any(Pageable.class))).willReturn(Page.empty());
+
+        mvc.perform(get("/articles/" + articleId).queryParam("page", "2"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/detail"));
+
+        then(commentService).should().getRootComments(articleId, PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
     }
 
     @Disabled
@@ -177,9 +296,8 @@ class ArticleControllerTest {
     @Test
     public void viewGetArticleHashtagWithoutKeywordReturnEmptyTest() throws Exception {
 
-        List<String> hashtags = List.of("#java", "#spring", "#boot");
         given(articleService.searchArticlesByHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
-        given(articleService.getHashtags()).willReturn(hashtags);
+        given(articleService.getHashtagDirectory(eq(null), any(), eq(50))).willReturn(hashtagDirectory());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
 
         mvc.perform(get("/articles/search-hashtag"))
@@ -192,7 +310,7 @@ class ArticleControllerTest {
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
 
         then(articleService).should().searchArticlesByHashtag(eq(null), any(Pageable.class));
-        then(articleService).should().getHashtags();
+        then(articleService).should().getHashtagDirectory(eq(null), any(), eq(50));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -201,9 +319,8 @@ class ArticleControllerTest {
     public void viewGetArticleHashtagSearchPageOkTest() throws Exception {
 
         String hashtag = "#spring";
-        List<String> hashtags = List.of("#java", "#spring", "#boot");
         given(articleService.searchArticlesByHashtag(eq(hashtag), any(Pageable.class))).willReturn(Page.empty());
-        given(articleService.getHashtags()).willReturn(hashtags);
+        given(articleService.getHashtagDirectory(eq(null), any(), eq(50))).willReturn(hashtagDirectory());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
 
         mvc.perform(get("/articles/search-hashtag")
@@ -217,10 +334,114 @@ class ArticleControllerTest {
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
 
         then(articleService).should().searchArticlesByHashtag(eq(hashtag), any(Pageable.class));
-        then(articleService).should().getHashtags();
+        then(articleService).should().getHashtagDirectory(eq(null), any(), eq(50));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] Article Hashtag Search Page - Trending Hashtags of the Chosen Window")
+    @Test
+    public void viewGetArticleHashtagSearchPageWithTrendWindowTest() throws Exception {
+
+        List<TrendingHashtagDto> trendingHashtags = List.of(TrendingHashtagDto.of("kotlin", 12), TrendingHashtagDto.of("java", 5));
+        given(articleService.searchArticlesByHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.getHashtagDirectory(eq(null), any(), eq(50))).willReturn(hashtagDirectory());
+        given(articleService.getTrendingHashtags(TrendWindow.DAY, 10)).willReturn(trendingHashtags);
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+
+        mvc.perform(get("/articles/search-hashtag")
+                        .queryParam("trendWindow", "DAY"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/search-hashtag"))
+                .andExpect(model().attribute("trendingHashtags", trendingHashtags))
+                .andExpect(model().attribute("trendWindow", TrendWindow.DAY));
+
+        then(articleService).should().getTrendingHashtags(TrendWindow.DAY, 10);
+    }
+
+    @DisplayName("[view][GET] Article Hashtag Search Page - Count Only New Searches That Found Articles")
+    @Test
+    public void viewGetArticleHashtagSearchPageCountNewSearchesOnly() throws Exception {
+
+        Page<ArticleDto> found = new PageImpl<>(List.of(createArticleDto()));
+        given(articleService.searchArticlesByHashtag(eq("java"), any(Pageable.class))).willReturn(found);
+        given(articleService.getHashtagDirectory(eq(null), any(), eq(50))).willReturn(hashtagDirectory());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+
+        mvc.perform(get("/articles/search-hashtag").queryParam("searchValue", "java"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/articles/search-hashtag").queryParam("searchValue", "java").queryParam("page", "1"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/articles/search-hashtag").queryParam("searchValue", "java").queryParam("trendWindow", "DAY"))
+                .andExpect(status().isOk());
+
+        then(articleService).should(times(1)).countHashtagSearch("java");
+    }
+
+    @DisplayName("[view][GET] Article Hashtag Search Page - Hashtag Directory Filtered by Prefix After the Cursor")
+    @Test
+    public void viewGetArticleHashtagSearchPageWithHashtagPrefixTest() throws Exception {
+
+        HashtagCursor cursor = HashtagCursor.of(5, "jpa");
+        given(articleService.searchArticlesByHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
+        given(articleService.getHashtagDirectory("ja", cursor, 50)).willReturn(hashtagDirectory());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0));
+
+        mvc.perform(get("/articles/search-hashtag")
+                        .queryParam("hashtagPrefix", "ja")
+                        .queryParam("hashtagCursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("hashtags", hashtagDirectory()))
+                .andExpect(model().attribute("nextHashtagCursor", HashtagCursor.of(1, "javascript").encode()));
+
+        then(articleService).should().getHashtagDirectory("ja", cursor, 50);
+    }
+
+    @DisplayName("[json][GET] Hashtag Directory - Page of hashtags with article counts")
+    @Test
+    public void jsonGetHashtagDirectoryReturnPage() throws Exception {
+
+        given(articleService.getHashtagDirectory("ja", null, 50)).willReturn(hashtagDirectory());
+
+        mvc.perform(get("/articles/hashtags").queryParam("prefix", "ja"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.hashtags[0].hashtagName").value("java"))
+                .andExpect(jsonPath("$.hashtags[0].articleCount").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("1_javascript"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        then(articleService).should().getHashtagDirectory("ja", null, 50);
+    }
+
+    @DisplayName("[json][GET] Hashtag Suggestions - Heaviest completions of the prefix")
+    @Test
+    public void jsonGetHashtagSuggestionsReturnCompletions() throws Exception {
+
+        given(suggestionIndex.suggestHashtags("ja", 10)).willReturn(List.of(
+                SuggestionDto.of("java", 3),
+                SuggestionDto.of("javascript", 1)
+        ));
+
+        mvc.perform(get("/articles/suggest/hashtags").queryParam("prefix", "ja").queryParam("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.prefix").value("ja"))
+                .andExpect(jsonPath("$.suggestions[0].term").value("java"))
+                .andExpect(jsonPath("$.suggestions[0].weight").value(3))
+                .andExpect(jsonPath("$.suggestions[1].term").value("javascript"));
+    }
+
+    @DisplayName("[json][GET] Nickname Suggestions - Heaviest completions of the prefix")
+    @Test
+    public void jsonGetNicknameSuggestionsReturnCompletions() throws Exception {
+
+        given(suggestionIndex.suggestNicknames("ki", 5)).willReturn(List.of(SuggestionDto.of("kimbos", 1)));
+
+        mvc.perform(get("/articles/suggest/nicknames").queryParam("prefix", "ki").queryParam("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions[0].term").value("kimbos"))
+                .andExpect(jsonPath("$.suggestions[0].weight").value(1));
+    }
+
     @WithMockUser
     @DisplayName("[view][GET] Write New Article Page")
     @Test
@@ -310,6 +531,14 @@ class ArticleControllerTest {
     /********** Private Methods for Test **********/
     /**********************************************/
 
+    private Slice<HashtagSummaryDto> hashtagDirectory() {
+        return new SliceImpl<>(
+                List.of(HashtagSummaryDto.of("java", 3), HashtagSummaryDto.of("javascript", 1)),
+                PageRequest.of(0, 50),
+                true
+        );
+    }
+
     private ArticleDto createArticleDto() {
         return ArticleDto.of(
                 createUserAccountDto(),
@@ -319,11 +548,10 @@ class ArticleControllerTest {
         );
     }
 
-    private ArticleWithCommentsDto createArticleWithCommentsDto() {
-        return ArticleWithCommentsDto.of(
+    private ArticleDto createDetailArticleDto() {
+        return ArticleDto.of(
                 1L,
                 createUserAccountDto(),
-                Set.of(),
                 "title",
                 "content",
                 Set.of(HashtagDto.of("java")),
@@ -334,6 +562,20 @@ class ArticleControllerTest {
         );
     }
 
+    private CommentDto createCommentDto() {
+        return CommentDto.of(
+                1L,
+                1L,
+                createUserAccountDto(),
+                null,
+                "comment",
+                LocalDateTime.now(),
+                "kim",
+                LocalDateTime.now(),
+                "kim"
+        );
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 "kimbos",
@@ -0,0 +1,78 @@
+package com.kimbos.onlinecommunity.controller;
+
+import com.kimbos.onlinecommunity.config.TestSecurityConfig;
+import com.kimbos.onlinecommunity.service.exporter.ArticleExporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API Controller - Article Export")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleExportController.class)
+class ArticleExportControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleExporter articleExporter;
+
+    public ArticleExportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("[ndjson][GET] Export Since as Admin - Streamed NDJSON")
+    @Test
+    void ndjsonGetExportSinceAsAdminReturnStream() throws Exception {
+
+        LocalDateTime since = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        given(articleExporter.export(eq(since), any(OutputStream.class))).willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("{\"id\":\"1\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mvc.perform(get("/admin/export/articles").param("since", "2024-01-02T03:04:05"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Dispatching waits for the body to be written, so nothing is asserted while it is streamed
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\""))
+                .andExpect(content().string("{\"id\":\"1\"}\n"));
+        then(articleExporter).should().export(eq(since), any(OutputStream.class));
+    }
+
+    @WithUserDetails(value = "kim", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[ndjson][GET] Export as Non-Admin - Forbidden")
+    @Test
+    void ndjsonGetExportAsNonAdminReturnForbidden() throws Exception {
+
+        mvc.perform(get("/admin/export/articles"))
+                .andExpect(status().isForbidden());
+        then(articleExporter).shouldHaveNoInteractions();
+    }
+}
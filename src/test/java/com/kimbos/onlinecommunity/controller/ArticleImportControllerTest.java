@@ -0,0 +1,87 @@
+package com.kimbos.onlinecommunity.controller;
+
+import com.kimbos.onlinecommunity.config.TestSecurityConfig;
+import com.kimbos.onlinecommunity.dto.response.ArticleImportResponse;
+import com.kimbos.onlinecommunity.service.importer.ArticleImportReader;
+import com.kimbos.onlinecommunity.service.importer.ArticleImporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API Controller - Article Import")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(ArticleImportController.class)
+class ArticleImportControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private ArticleImporter articleImporter;
+
+    public ArticleImportControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("[json][POST] Import NDJSON as Admin - Import Report")
+    @Test
+    void jsonPostImportNdjsonAsAdminReturnReport() throws Exception {
+
+        given(articleImporter.importArticles(eq("job-1"), any(ArticleImportReader.class)))
+                .willReturn(ArticleImportResponse.of("job-1", 0, 2, 2, 3, 0, 1000));
+
+        mvc.perform(post("/admin/import/articles")
+                        .param("jobId", "job-1")
+                        .contentType("application/x-ndjson")
+                        .content("{\"userId\":\"kim\",\"title\":\"t\",\"content\":\"c\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.importedArticles").value(2))
+                .andExpect(jsonPath("$.rowsPerSecond").value(5.0));
+        then(articleImporter).should().importArticles(eq("job-1"), any(ArticleImportReader.class));
+    }
+
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("[json][POST] Import Malformed Input - Bad Request")
+    @Test
+    void jsonPostImportMalformedInputReturnBadRequest() throws Exception {
+
+        given(articleImporter.importArticles(eq("job-1"), any(ArticleImportReader.class)))
+                .willThrow(new IllegalArgumentException("Malformed import record - line: 3"));
+
+        mvc.perform(post("/admin/import/articles")
+                        .param("jobId", "job-1")
+                        .contentType("text/csv")
+                        .content("type,user_id,title,content\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Malformed import record - line: 3"));
+    }
+
+    @WithUserDetails(value = "kim", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][POST] Import as Non-Admin - Forbidden")
+    @Test
+    void jsonPostImportAsNonAdminReturnForbidden() throws Exception {
+
+        mvc.perform(post("/admin/import/articles")
+                        .param("jobId", "job-1")
+                        .contentType("application/x-ndjson")
+                        .content("{}\n"))
+                .andExpect(status().isForbidden());
+        then(articleImporter).shouldHaveNoInteractions();
+    }
+}
@@ -2,6 +2,7 @@ package com.kimbos.onlinecommunity.controller;
 
 import com.kimbos.onlinecommunity.config.TestSecurityConfig;
 import com.kimbos.onlinecommunity.dto.CommentDto;
+import com.kimbos.onlinecommunity.dto.UserAccountDto;
 import com.kimbos.onlinecommunity.dto.request.CommentRequest;
 import com.kimbos.onlinecommunity.service.CommentService;
 import com.kimbos.onlinecommunity.utils.FormDataEncoder;
@@ -11,17 +12,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -108,4 +119,94 @@ class CommentControllerTest {
                 .andExpect(redirectedUrl("/articles/" + articleId));
         then(commentService).should().saveComment(any(CommentDto.class));
     }
-}
\ No newline at end of file
+
+    @WithUserDetails(value = "kim", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][GET] Comment Replies - one page of replies with their reply counts")
+    @Test
+    void jsonGetCommentRepliesReturnReplyPage() throws Exception {
+
+        long commentId = 1L;
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "createdAt"));
+        given(commentService.getReplies(eq(commentId), eq(1), eq(pageable))).willReturn(new SliceImpl<>(
+                List.of(createReplyDto(2L, commentId), createReplyDto(3L, commentId)), pageable, true));
+
+        mvc.perform(get("/comments/" + commentId + "/replies"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.replies.length()").value(2))
+                .andExpect(jsonPath("$.replies[0].id").value("2"))
+                .andExpect(jsonPath("$.replies[0].parentCommentId").value(String.valueOf(commentId)))
+                .andExpect(jsonPath("$.replies[0].replyCount").value(4))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        then(commentService).should().getReplies(commentId, 1, pageable);
+    }
+
+    @WithUserDetails(value = "kim", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][GET] Comment Replies with depth - one page of the subtree")
+    @Test
+    void jsonGetCommentRepliesWithDepthReturnSubtreePage() throws Exception {
+
+        long commentId = 1L;
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "createdAt"));
+        given(commentService.getReplies(eq(commentId), eq(3), eq(pageable))).willReturn(new SliceImpl<>(
+                List.of(createReplyDto(2L, commentId), createReplyDto(3L, 2L)), pageable, false));
+
+        mvc.perform(get("/comments/" + commentId + "/replies").queryParam("depth", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replies[1].parentCommentId").value("2"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        then(commentService).should().getReplies(commentId, 3, pageable);
+    }
+
+    @WithUserDetails(value = "kim", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][GET] Comment Search - one page of matching comments in ranking order")
+    @Test
+    void jsonGetCommentSearchReturnRankedPage() throws Exception {
+
+        String keyword = "reply";
+        Pageable pageable = PageRequest.of(0, 20);
+        given(commentService.searchCommentsByKeyword(eq(keyword), eq(pageable))).willReturn(new PageImpl<>(
+                List.of(createReplyDto(3L, 1L), createReplyDto(2L, 1L)), pageable, 2));
+
+        mvc.perform(get("/comments/search").queryParam("keyword", keyword))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.comments.length()").value(2))
+                .andExpect(jsonPath("$.comments[0].id").value("3"))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        then(commentService).should().searchCommentsByKeyword(keyword, pageable);
+    }
+
+    private CommentDto createReplyDto(Long id, Long parentCommentId) {
+        return CommentDto.of(
+                id,
+                1L,
+                createUserAccountDto(),
+                parentCommentId,
+                "reply",
+                LocalDateTime.now(),
+                "kim",
+                LocalDateTime.now(),
+                "kim",
+                4
+        );
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of(
+                "kim",
+                "pw",
+                "kimbos0523@gmail.com",
+                "kim",
+                "memo",
+                LocalDateTime.now(),
+                "kim",
+                LocalDateTime.now(),
+                "kim"
+        );
+    }
+}
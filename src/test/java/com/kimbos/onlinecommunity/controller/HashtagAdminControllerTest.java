@@ -0,0 +1,60 @@
+package com.kimbos.onlinecommunity.controller;
+
+import com.kimbos.onlinecommunity.config.TestSecurityConfig;
+import com.kimbos.onlinecommunity.service.HashtagArticleCountRepairer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("API Controller - Hashtag Admin")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(HashtagAdminController.class)
+class HashtagAdminControllerTest {
+
+    private final MockMvc mvc;
+
+    @MockBean private HashtagArticleCountRepairer hashtagArticleCountRepairer;
+
+    public HashtagAdminControllerTest(@Autowired MockMvc mvc) {
+        this.mvc = mvc;
+    }
+
+
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("[json][POST] Repair Hashtag Article Counts as Admin - Repaired Hashtags")
+    @Test
+    void jsonPostRepairArticleCountsAsAdminReturnRepairedHashtags() throws Exception {
+
+        given(hashtagArticleCountRepairer.repair()).willReturn(3);
+
+        mvc.perform(post("/admin/hashtags/article-counts/repair").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.repairedHashtags").value(3));
+        then(hashtagArticleCountRepairer).should().repair();
+    }
+
+    @WithUserDetails(value = "kim", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[json][POST] Repair Hashtag Article Counts as Non-Admin - Forbidden")
+    @Test
+    void jsonPostRepairArticleCountsAsNonAdminReturnForbidden() throws Exception {
+
+        mvc.perform(post("/admin/hashtags/article-counts/repair").with(csrf()))
+                .andExpect(status().isForbidden());
+        then(hashtagArticleCountRepairer).shouldHaveNoInteractions();
+    }
+}
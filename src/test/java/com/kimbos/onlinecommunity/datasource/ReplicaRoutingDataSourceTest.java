@@ -0,0 +1,188 @@
+package com.kimbos.onlinecommunity.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Separate in-memory H2 databases stand in for the primary and its replicas; "replication" copies the heartbeat row.
+ */
+@DisplayName("Data Source - Replica Routing")
+class ReplicaRoutingDataSourceTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica1 = database("replica-1");
+        replica2 = database("replica-2");
+    }
+
+    @DisplayName("Read-only transaction -> run on available replica, others on primary")
+    @Test
+    void readOnlyTransactionRunOnReplica() {
+
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN, replica1);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routing, Duration.ofSeconds(5), clock);
+        monitor.check();
+        replicate(replica1);
+        monitor.check();
+
+        assertThat(whereAmI(routing, true)).isEqualTo("replica-1");
+        assertThat(whereAmI(routing, false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(new LazyConnectionDataSourceProxy(routing))
+                .queryForObject("select name from whereami", String.class)).isEqualTo("primary");
+    }
+
+    @DisplayName("Replica not checked yet -> read on primary")
+    @Test
+    void replicaNotCheckedYetReadOnPrimary() {
+
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN, replica1);
+
+        assertThat(whereAmI(routing, true)).isEqualTo("primary");
+    }
+
+    @DisplayName("Replica falls behind max lag -> read on primary until it catches up")
+    @Test
+    void replicaFallsBehindReadOnPrimaryUntilCaughtUp() {
+
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN, replica1);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routing, Duration.ofSeconds(5), clock);
+        monitor.check();
+        replicate(replica1);
+        monitor.check();
+
+        clock.advance(Duration.ofSeconds(10));
+        monitor.check();
+        clock.advance(Duration.ofSeconds(1));
+        monitor.check();
+
+        assertThat(routing.getReplicas().get(0).getLag()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(whereAmI(routing, true)).isEqualTo("primary");
+
+        replicate(replica1);
+        monitor.check();
+
+        assertThat(routing.getReplicas().get(0).getLag()).isZero();
+        assertThat(whereAmI(routing, true)).isEqualTo("replica-1");
+    }
+
+    @DisplayName("Replica unreachable -> read on other replicas")
+    @Test
+    void replicaUnreachableReadOnOtherReplicas() {
+
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN, replica1, replica2);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routing, Duration.ofSeconds(5), clock);
+        monitor.check();
+        replicate(replica1);
+        replicate(replica2);
+        monitor.check();
+        new JdbcTemplate(replica2).execute("drop table replication_heartbeat");
+
+        monitor.check();
+
+        assertThat(routing.getReplicas()).extracting(ReplicaRoutingDataSource.Replica::isAvailable).containsExactly(true, false);
+        assertThat(whereAmI(routing, true)).isEqualTo("replica-1");
+        assertThat(whereAmI(routing, true)).isEqualTo("replica-1");
+    }
+
+    @DisplayName("Round robin -> alternate between available replicas")
+    @Test
+    void roundRobinAlternateBetweenReplicas() {
+
+        ReplicaRoutingDataSource routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN, replica1, replica2);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routing, Duration.ofSeconds(5), clock);
+        monitor.check();
+        replicate(replica1);
+        replicate(replica2);
+        monitor.check();
+
+        assertThat(whereAmI(routing, true)).isNotEqualTo(whereAmI(routing, true));
+        assertThat(whereAmI(routing, true)).startsWith("replica-");
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaRoutingDataSource.Selection selection, DataSource... replicas) {
+        Map<String, DataSource> byName = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.length; i++) {
+            byName.put("replica-" + (i + 1), replicas[i]);
+        }
+        return new ReplicaRoutingDataSource(primary, byName, selection);
+    }
+
+    private static String whereAmI(ReplicaRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from whereami", String.class));
+    }
+
+    private void replicate(DataSource replica) {
+        Object beatAt = new JdbcTemplate(primary).queryForObject("select beat_at from replication_heartbeat where id = 1", Object.class);
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.execute(ReplicaLagMonitor.CREATE_HEARTBEAT);
+        replicaTemplate.update("delete from replication_heartbeat");
+        replicaTemplate.update("insert into replication_heartbeat (id, beat_at) values (1, ?)", beatAt);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table whereami (name varchar(20))");
+        jdbcTemplate.update("insert into whereami values (?)", name);
+        return dataSource;
+    }
+
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package com.kimbos.onlinecommunity.repository;
 
 import com.kimbos.onlinecommunity.domain.Article;
+import com.kimbos.onlinecommunity.domain.Comment;
 import com.kimbos.onlinecommunity.domain.Hashtag;
 import com.kimbos.onlinecommunity.domain.UserAccount;
+import com.kimbos.onlinecommunity.domain.QArticle;
+import com.kimbos.onlinecommunity.dto.ArticleCursor;
+import com.kimbos.onlinecommunity.dto.ArticleDto;
+import com.kimbos.onlinecommunity.dto.ArticleIndexDto;
+import com.kimbos.onlinecommunity.dto.ArticleSummaryDto;
+import com.kimbos.onlinecommunity.dto.CommentIndexDto;
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.HashtagIndexDto;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
+import com.kimbos.onlinecommunity.dto.NicknameIndexDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -28,17 +44,23 @@ class JpaRepositoryTest {
     private final CommentRepository commentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final CommentClosureRepository commentClosureRepository;
+    private final TestEntityManager entityManager;
 
     public JpaRepositoryTest(
             @Autowired ArticleRepository articleRepository,
             @Autowired CommentRepository commentRepository,
             @Autowired UserAccountRepository userAccountRepository,
-            @Autowired HashtagRepository hashtagRepository
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired CommentClosureRepository commentClosureRepository,
+            @Autowired TestEntityManager entityManager
     ) {
         this.articleRepository = articleRepository;
         this.commentRepository = commentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hashtagRepository = hashtagRepository;
+        this.commentClosureRepository = commentClosureRepository;
+        this.entityManager = entityManager;
     }
 
     @DisplayName("Select Test")
@@ -96,13 +118,68 @@ class JpaRepositoryTest {
         assertThat(commentRepository.count()).isEqualTo(previousCommentCount - deletedCommentsSize);
     }
 
-    @DisplayName("[Querydsl] Query Hashtag by hashtag name")
+    @DisplayName("[Querydsl] Query Hashtag directory by prefix -> most used first, with article counts")
     @Test
-    void queryingHashtagsReturnHashtagNames() {
+    void queryingHashtagDirectoryByPrefixReturnMostUsedFirst() {
 
-        List<String> hashtagNames = hashtagRepository.findAllHashtagNames();
+        List<HashtagSummaryDto> directory = hashtagRepository.findDirectoryAfter("p", null, 2);
 
-        assertThat(hashtagNames).hasSize(19);
+        assertThat(directory)
+                .hasSize(2)
+                .allSatisfy(hashtag -> {
+                    assertThat(hashtag.hashtagName()).startsWith("p");
+                    assertThat(hashtag.articleCount()).isEqualTo(countArticlesTagged(hashtag.hashtagName()));
+                });
+        assertThat(directory.get(0).articleCount()).isGreaterThanOrEqualTo(directory.get(1).articleCount());
+        assertThat(hashtagRepository.findDirectoryAfter(null, null, 100)).hasSize(19);
+    }
+
+    @DisplayName("[Querydsl] Query Hashtag directory after cursor -> pages join up, most used first then by name descending")
+    @Test
+    void queryingHashtagDirectoryAfterCursorReturnNextPage() {
+
+        List<HashtagSummaryDto> all = hashtagRepository.findDirectoryAfter(null, null, 100);
+
+        List<HashtagSummaryDto> firstPage = hashtagRepository.findDirectoryAfter(null, null, 7);
+        HashtagSummaryDto last = firstPage.get(firstPage.size() - 1);
+        List<HashtagSummaryDto> secondPage = hashtagRepository.findDirectoryAfter(null, HashtagCursor.of(last.articleCount(), last.hashtagName()), 7);
+
+        assertThat(all).isSortedAccordingTo(Comparator.comparingLong(HashtagSummaryDto::articleCount)
+                .thenComparing(HashtagSummaryDto::hashtagName)
+                .reversed());
+        assertThat(firstPage).containsExactlyElementsOf(all.subList(0, 7));
+        assertThat(secondPage).containsExactlyElementsOf(all.subList(7, 14));
+    }
+
+    @DisplayName("[Querydsl] Add article count -> hashtags created in the same transaction are counted too")
+    @Test
+    void addArticleCountCountNewHashtags() {
+
+        Article article = Article.of(userAccountRepository.getReferenceById("kim"), "title", "content #purple #brandnew");
+        article.addHashtags(Set.of(hashtagRepository.findByHashtagName("purple").orElseThrow(), Hashtag.of("brandnew")));
+        long purpleCount = countArticlesTagged("purple");
+        articleRepository.save(article);
+
+        // Nothing flushed yet: the update flushes the new article and hashtag itself
+        long updated = hashtagRepository.addArticleCount(Set.of("purple", "brandnew"), 1);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(hashtagRepository.findByHashtagName("purple").orElseThrow().getArticleCount()).isEqualTo(purpleCount + 1);
+        assertThat(hashtagRepository.findByHashtagName("brandnew").orElseThrow().getArticleCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Repair article counts -> only the drifted hashtag is rewritten, back to its article count")
+    @Test
+    void repairArticleCountsRewriteDriftedHashtag() {
+
+        hashtagRepository.addArticleCount(Set.of("purple"), 5);
+
+        int repaired = hashtagRepository.repairArticleCounts();
+        entityManager.clear();
+
+        assertThat(repaired).isEqualTo(1);
+        assertThat(hashtagRepository.findByHashtagName("purple").orElseThrow().getArticleCount()).isEqualTo(countArticlesTagged("purple"));
     }
 
     @DisplayName("[Querydsl] Query Articles by Hashtag names and pageable")
@@ -126,6 +203,267 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
 
+    @DisplayName("[Querydsl] Query Articles after cursor -> pages join up with the offset order")
+    @Test
+    void articlesAfterCursorReturnNextKeysetPage() {
+
+        List<Article> expected = articleRepository.findAll(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        List<ArticleSummaryDto> firstPage = articleRepository.findSummariesAfter(null, null, 10);
+        ArticleSummaryDto last = firstPage.get(firstPage.size() - 1);
+        List<ArticleSummaryDto> secondPage = articleRepository.findSummariesAfter(null, ArticleCursor.of(last.createdAt(), last.id()), 10);
+
+        assertThat(firstPage).extracting(ArticleSummaryDto::id)
+                .containsExactlyElementsOf(expected.subList(0, 10).stream().map(Article::getId).toList());
+        assertThat(secondPage).extracting(ArticleSummaryDto::id)
+                .containsExactlyElementsOf(expected.subList(10, 20).stream().map(Article::getId).toList());
+    }
+
+    @DisplayName("[Querydsl] Query neighbours of an article -> adjacent ids in createdAt, id order")
+    @Test
+    void neighboursOfArticleReturnAdjacentIds() {
+
+        List<Article> ordered = articleRepository.findAll(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id")));
+        Article oldest = ordered.get(0);
+        Article middle = ordered.get(5);
+        Article newest = ordered.get(ordered.size() - 1);
+
+        assertThat(articleRepository.findPreviousId(ArticleCursor.of(middle.getCreatedAt(), middle.getId()))).contains(ordered.get(4).getId());
+        assertThat(articleRepository.findNextId(ArticleCursor.of(middle.getCreatedAt(), middle.getId()))).contains(ordered.get(6).getId());
+        assertThat(articleRepository.findPreviousId(ArticleCursor.of(oldest.getCreatedAt(), oldest.getId()))).isEmpty();
+        assertThat(articleRepository.findNextId(ArticleCursor.of(newest.getCreatedAt(), newest.getId()))).isEmpty();
+    }
+
+    @DisplayName("[Querydsl] Query Articles by Hashtag names after cursor -> only tagged articles, newest first")
+    @Test
+    void hashtagNamesAfterCursorReturnTaggedArticles() {
+
+        List<String> hashtagNames = List.of("blue", "crimson", "fuscia");
+
+        List<Article> firstPage = articleRepository.findByHashtagNamesAfter(hashtagNames, null, 10);
+        Article last = firstPage.get(firstPage.size() - 1);
+        List<Article> secondPage = articleRepository.findByHashtagNamesAfter(hashtagNames, ArticleCursor.of(last.getCreatedAt(), last.getId()), 10);
+
+        assertThat(firstPage).hasSize(10);
+        assertThat(secondPage).hasSize(7).doesNotContainAnyElementsOf(firstPage);
+    }
+
+    @DisplayName("[Querydsl] Query Article summaries -> same rows and hashtags as the entity page")
+    @Test
+    void articleSummariesReturnSameRowsAsEntityPage() {
+
+        Pageable pageable = PageRequest.of(2, 10, Sort.by(Sort.Order.desc("createdAt")));
+        Page<Article> entityPage = articleRepository.findAll(pageable);
+
+        Page<ArticleSummaryDto> summaryPage = articleRepository.findSummaries(null, pageable);
+
+        assertThat(summaryPage.getTotalElements()).isEqualTo(entityPage.getTotalElements());
+        assertThat(summaryPage.getContent()).extracting(ArticleSummaryDto::id)
+                .containsExactlyElementsOf(entityPage.getContent().stream().map(Article::getId).toList());
+        assertThat(summaryPage.getContent().get(0).hashtagNames())
+                .isEqualTo(entityPage.getContent().get(0).getHashtags().stream().map(Hashtag::getHashtagName).collect(Collectors.toSet()));
+        assertThat(summaryPage.getContent().get(0).userId())
+                .isEqualTo(entityPage.getContent().get(0).getUserAccount().getUserId());
+    }
+
+    @DisplayName("[Querydsl] Query Article summaries by Hashtag names -> count every tagged article once")
+    @Test
+    void articleSummariesByHashtagNamesReturnTaggedArticlesOnce() {
+
+        Set<String> hashtagNames = Set.of("blue", "crimson", "fuscia");
+        long expected = articleRepository.findAll().stream()
+                .filter(article -> article.getHashtags().stream().anyMatch(hashtag -> hashtagNames.contains(hashtag.getHashtagName())))
+                .count();
+
+        Page<ArticleSummaryDto> summaryPage = articleRepository.findSummaries(
+                QArticle.article.hashtags.any().hashtagName.in(hashtagNames),
+                PageRequest.of(0, 50, Sort.by("hashtags"))
+        );
+
+        assertThat(summaryPage.getTotalElements()).isEqualTo(expected);
+        assertThat(summaryPage.getContent()).allSatisfy(summary ->
+                assertThat(summary.hashtagNames()).containsAnyElementsOf(hashtagNames));
+    }
+
+    @DisplayName("[Querydsl] Delete orphan hashtags -> only hashtags without articles are deleted")
+    @Test
+    void deleteOrphanHashtagsKeepUsedHashtags() {
+
+        Hashtag orphan = hashtagRepository.save(Hashtag.of("orphan"));
+        Hashtag used = articleRepository.findAll().stream()
+                .flatMap(article -> article.getHashtags().stream())
+                .findFirst()
+                .orElseThrow();
+        List<Long> candidates = List.of(orphan.getId(), used.getId());
+        entityManager.flush();
+
+        List<Hashtag> orphans = hashtagRepository.findOrphans(candidates);
+        long deleted = hashtagRepository.deleteOrphans(candidates);
+
+        assertThat(orphans).extracting("hashtagName").containsExactly("orphan");
+        assertThat(deleted).isEqualTo(1);
+        assertThat(hashtagRepository.findAllById(candidates)).extracting("id").containsExactly(used.getId());
+    }
+
+    @DisplayName("Index rows after a key -> every article, comment, hashtag and nickname once, in key order")
+    @Test
+    void indexRowsAfterIdReturnEveryRowOnce() {
+
+        List<Long> articleIds = articleRepository.findAll(Sort.by("id")).stream().map(Article::getId).toList();
+        List<Long> commentIds = commentRepository.findAll(Sort.by("id")).stream().map(Comment::getId).toList();
+
+        List<ArticleIndexDto> firstArticles = articleRepository.findIndexRowsAfter(Long.MIN_VALUE, PageRequest.of(0, 10));
+        List<ArticleIndexDto> nextArticles = articleRepository.findIndexRowsAfter(firstArticles.get(9).id(), PageRequest.of(0, 10));
+        List<CommentIndexDto> comments = commentRepository.findIndexRowsAfter(commentIds.get(4), PageRequest.of(0, 3));
+        List<Long> hashtagIds = hashtagRepository.findAll(Sort.by("id")).stream().map(Hashtag::getId).toList();
+        List<HashtagIndexDto> hashtags = hashtagRepository.findIndexRowsAfter(hashtagIds.get(1), PageRequest.of(0, 3));
+        List<UserAccount> users = userAccountRepository.findAll(Sort.by("userId"));
+        List<NicknameIndexDto> nicknames = userAccountRepository.findNicknamesAfter("", PageRequest.of(0, users.size()));
+
+        assertThat(firstArticles).extracting(ArticleIndexDto::id).containsExactlyElementsOf(articleIds.subList(0, 10));
+        assertThat(nextArticles).extracting(ArticleIndexDto::id).containsExactlyElementsOf(articleIds.subList(10, 20));
+        assertThat(firstArticles.get(0).content()).isNotBlank();
+        assertThat(comments).extracting(CommentIndexDto::id).containsExactlyElementsOf(commentIds.subList(5, 8));
+        assertThat(hashtags).extracting(HashtagIndexDto::id).containsExactlyElementsOf(hashtagIds.subList(2, 5));
+        assertThat(nicknames).extracting(NicknameIndexDto::userId).containsExactlyElementsOf(users.stream()
+                .filter(user -> user.getNickname() != null)
+                .map(UserAccount::getUserId)
+                .toList());
+    }
+
+    @DisplayName("Find hashtags for share -> same rows as the unlocked lookup")
+    @Test
+    void findHashtagsForShareReturnSameRows() {
+
+        Hashtag hashtag = hashtagRepository.save(Hashtag.of("shared"));
+        entityManager.flush();
+
+        assertThat(hashtagRepository.findByHashtagNameInForShare(List.of("shared"))).containsExactly(hashtag);
+    }
+
+    @DisplayName("Article detail -> article, author and hashtags in one statement")
+    @Test
+    void articleDetailRunsOneStatement() {
+
+        Article tagged = articleRepository.findAll().stream()
+                .filter(article -> !article.getHashtags().isEmpty())
+                .findFirst()
+                .orElseThrow();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ArticleDto dto = articleRepository.findWithDetailsById(tagged.getId())
+                .map(ArticleDto::from)
+                .orElseThrow();
+
+        assertThat(dto.hashtagDtos()).isNotEmpty();
+        assertThat(dto.userAccountDto().userId()).isEqualTo(tagged.getUserAccount().getUserId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @DisplayName("Comment closure -> paged subtree and depth-limited slice of a thread, without the comment itself")
+    @Test
+    void commentClosureServesPagedSubtreeAndDepthSlice() {
+
+        Comment root = commentRepository.findAll().stream()
+                .filter(comment -> comment.getParentCommentId() == null)
+                .findFirst()
+                .orElseThrow();
+        UserAccount userAccount = root.getUserAccount();
+        Comment reply = saveReply(root, userAccount, "reply");
+        Comment nestedReply = saveReply(reply, userAccount, "nested reply");
+        commentClosureRepository.rebuild();
+        Comment lateReply = saveReply(nestedReply, userAccount, "late reply");
+        commentClosureRepository.insertPaths(lateReply.getId());
+        Pageable oldestFirst = PageRequest.of(0, 100, Sort.by("createdAt", "id"));
+
+        Slice<Comment> subtree = commentRepository.findSubtree(root.getId(), Integer.MAX_VALUE, oldestFirst);
+        Slice<Comment> firstLevel = commentRepository.findSubtree(root.getId(), 1, oldestFirst);
+        Slice<Comment> firstReply = commentRepository.findSubtree(reply.getId(), Integer.MAX_VALUE, PageRequest.of(0, 1, Sort.by("id")));
+
+        assertThat(subtree.getContent()).extracting("id").contains(reply.getId(), nestedReply.getId(), lateReply.getId())
+                .doesNotContain(root.getId());
+        assertThat(firstLevel.getContent()).extracting("id").contains(reply.getId())
+                .doesNotContain(root.getId(), nestedReply.getId(), lateReply.getId());
+        assertThat(firstReply.getContent()).extracting("id").containsExactly(nestedReply.getId());
+        assertThat(firstReply.hasNext()).isTrue();
+        assertThat(commentClosureRepository.findSubtreeIds(nestedReply.getId()))
+                .containsExactlyInAnyOrder(nestedReply.getId(), lateReply.getId());
+    }
+
+    @DisplayName("Root comments and replies -> each is one page of one level of the thread")
+    @Test
+    void rootCommentsAndRepliesArePagedPerLevel() {
+
+        Comment root = commentRepository.findAll().stream()
+                .filter(comment -> comment.getParentCommentId() == null)
+                .findFirst()
+                .orElseThrow();
+        Comment reply = saveReply(root, root.getUserAccount(), "reply");
+        saveReply(reply, root.getUserAccount(), "nested reply");
+        Long articleId = root.getArticle().getId();
+
+        Page<Comment> rootComments = commentRepository.findByArticle_IdAndParentCommentIdIsNull(articleId, Pageable.ofSize(100));
+        Slice<Comment> replies = commentRepository.findByParentCommentId(root.getId(), Pageable.ofSize(100));
+
+        assertThat(rootComments.getContent())
+                .allMatch(comment -> comment.getParentCommentId() == null)
+                .allMatch(comment -> comment.getArticle().getId().equals(articleId))
+                .contains(root);
+        assertThat(replies.getContent())
+                .allMatch(comment -> root.getId().equals(comment.getParentCommentId()))
+                .contains(reply);
+    }
+
+    private long countArticlesTagged(String hashtagName) {
+        return entityManager.getEntityManager()
+                .createQuery("select count(a) from Article a join a.hashtags h where h.hashtagName = :hashtagName", Long.class)
+                .setParameter("hashtagName", hashtagName)
+                .getSingleResult();
+    }
+
+    private Comment saveReply(Comment parent, UserAccount userAccount, String content) {
+        Comment reply = Comment.of(parent.getArticle(), userAccount, content);
+        parent.addChildComment(reply);
+        commentRepository.flush();
+
+        return reply;
+    }
+
+    @DisplayName("Comment counters -> atomic increments, and repair recomputes drifted rows from the comments")
+    @Test
+    void commentCountersAreIncrementedAndRepaired() {
+
+        Comment root = commentRepository.findAll().stream()
+                .filter(comment -> comment.getParentCommentId() == null)
+                .findFirst()
+                .orElseThrow();
+        Long articleId = root.getArticle().getId();
+        Comment reply = saveReply(root, root.getUserAccount(), "reply");
+        commentClosureRepository.rebuild();
+        long comments = commentRepository.findByArticle_Id(articleId).size();
+        long replies = commentClosureRepository.findSubtreeIds(root.getId()).size() - 1;
+
+        commentRepository.repairReplyCounts();
+        int repairedArticles = articleRepository.repairCommentCounts();
+        articleRepository.addCommentCount(articleId, 2);
+        commentRepository.addReplyCountToAncestors(reply.getId(), 1);
+        entityManager.clear();
+
+        assertThat(repairedArticles).isPositive();
+        assertThat(articleRepository.findById(articleId).orElseThrow().getCommentCount()).isEqualTo(comments + 2);
+        assertThat(commentRepository.findById(root.getId()).orElseThrow().getReplyCount()).isEqualTo(replies + 1);
+        assertThat(articleRepository.repairCommentCounts()).isEqualTo(1);
+        assertThat(commentRepository.repairReplyCounts()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(articleRepository.findById(articleId).orElseThrow().getCommentCount()).isEqualTo(comments);
+        assertThat(commentRepository.findById(root.getId()).orElseThrow().getReplyCount()).isEqualTo(replies);
+    }
+
     @EnableJpaAuditing
     @TestConfiguration
     public static class TestJpaConfig {
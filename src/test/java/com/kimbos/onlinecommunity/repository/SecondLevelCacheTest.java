@@ -0,0 +1,147 @@
+package com.kimbos.onlinecommunity.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.kimbos.onlinecommunity.config.CaffeineRegionFactory;
+import com.kimbos.onlinecommunity.config.JpaConfig;
+import com.kimbos.onlinecommunity.domain.Article;
+import com.kimbos.onlinecommunity.domain.Hashtag;
+import com.kimbos.onlinecommunity.domain.UserAccount;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every step runs in its own transaction, like separate requests: a read-write cache entry only serves sessions that
+ * start after it was stored.
+ */
+@DisplayName("Test for second-level cache")
+@Import(SecondLevelCacheTest.TestCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest
+class SecondLevelCacheTest {
+
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private CommentClosureRepository commentClosureRepository;
+    @Autowired private HashtagRepository hashtagRepository;
+    @Autowired private CaffeineRegionFactory caffeineRegionFactory;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @DisplayName("Article page again -> authors come from the cache")
+    @Test
+    void articlePageAgainAuthorsFromCache() {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        articleRepository.findAll(PageRequest.of(0, 20));
+        long coldStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        articleRepository.findAll(PageRequest.of(0, 20));
+        long warmStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertThat(warmStatements).isLessThan(coldStatements);
+        assertThat(region(UserAccount.CACHE_REGION).stats().hitCount()).isPositive();
+    }
+
+    @DisplayName("Article hashtags again -> collection and hashtags come from the cache")
+    @Test
+    void articleHashtagsAgainFromCache() {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long articleId = transactionTemplate.execute(status -> articleRepository.findAll().stream()
+                .filter(article -> !article.getHashtags().isEmpty())
+                .findFirst()
+                .map(Article::getId)
+                .orElseThrow());
+
+        List<String> cold = transactionTemplate.execute(status -> hashtagNamesOf(articleId));
+        long collectionHits = region(Article.HASHTAGS_CACHE_REGION).stats().hitCount();
+        long hashtagHits = region(Hashtag.CACHE_REGION).stats().hitCount();
+        List<String> warm = transactionTemplate.execute(status -> hashtagNamesOf(articleId));
+
+        assertThat(warm).containsExactlyInAnyOrderElementsOf(cold);
+        assertThat(region(Article.HASHTAGS_CACHE_REGION).stats().hitCount()).isGreaterThan(collectionHits);
+        assertThat(region(Hashtag.CACHE_REGION).stats().hitCount()).isGreaterThan(hashtagHits);
+    }
+
+    @DisplayName("Native comment closure insert -> cached authors stay")
+    @Test
+    void nativeCommentClosureInsertKeepsCachedAuthors() {
+
+        articleRepository.findAll(PageRequest.of(0, 20));
+        long cachedAuthors = region(UserAccount.CACHE_REGION).estimatedSize();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> commentClosureRepository.insertPaths(-1L));
+
+        assertThat(cachedAuthors).isPositive();
+        assertThat(region(UserAccount.CACHE_REGION).estimatedSize()).isEqualTo(cachedAuthors);
+    }
+
+    @DisplayName("Article count update -> other cached hashtags stay")
+    @Test
+    void articleCountUpdateKeepsOtherCachedHashtags() {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> hashtagIds = transactionTemplate.execute(status -> hashtagRepository.findAll().stream().map(Hashtag::getId).toList());
+        transactionTemplate.executeWithoutResult(status -> hashtagIds.forEach(id -> hashtagRepository.findById(id)));
+        long cachedHashtags = region(Hashtag.CACHE_REGION).estimatedSize();
+
+        transactionTemplate.executeWithoutResult(status -> hashtagRepository.addArticleCount(List.of("pink"), 1));
+
+        assertThat(cachedHashtags).isPositive();
+        assertThat(region(Hashtag.CACHE_REGION).estimatedSize()).isGreaterThanOrEqualTo(cachedHashtags - 1);
+    }
+
+    private List<String> hashtagNamesOf(Long articleId) {
+        return articleRepository.findById(articleId).orElseThrow().getHashtags().stream()
+                .map(Hashtag::getHashtagName)
+                .toList();
+    }
+
+    private Cache<Object, Object> region(String regionName) {
+        return caffeineRegionFactory.getRegions().get(regionName);
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    public static class TestCacheConfig {
+        @Bean
+        public AuditorAware<String> auditorAware() {
+            return () -> Optional.of("kim");
+        }
+
+        @Bean
+        public CaffeineRegionFactory caffeineRegionFactory() {
+            return new CaffeineRegionFactory(1_000, Map.of());
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CaffeineRegionFactory caffeineRegionFactory) {
+            return new JpaConfig().secondLevelCacheCustomizer(caffeineRegionFactory);
+        }
+    }
+}
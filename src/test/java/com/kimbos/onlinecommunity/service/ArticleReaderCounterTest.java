@@ -0,0 +1,119 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.domain.ArticleReaderSketch;
+import com.kimbos.onlinecommunity.repository.ArticleReaderSketchRepository;
+import com.kimbos.onlinecommunity.utils.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Business Logic - Article Reader Counter")
+@Import(ArticleReaderCounter.class)
+@DataJpaTest
+class ArticleReaderCounterTest {
+
+    @Autowired private ArticleReaderCounter articleReaderCounter;
+    @Autowired private ArticleReaderSketchRepository articleReaderSketchRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    // The counter outlives the rolled back test transactions, so reads left by another test are written off first
+    @BeforeEach
+    void flushLeftovers() {
+        articleReaderCounter.flush();
+    }
+
+    @DisplayName("Repeated reads -> count each reader once, before and after the flush")
+    @Test
+    void repeatedReadsCountEachReaderOnce() {
+
+        for (int i = 0; i < 300; i++) {
+            articleReaderCounter.record(1L, "user:reader" + (i % 100));
+        }
+
+        long estimate = articleReaderCounter.uniqueReaders(1L);
+        articleReaderCounter.flush();
+
+        assertThat(articleReaderCounter.pendingArticleCount()).isZero();
+        assertThat(articleReaderSketchRepository.findById(1L)).map(ArticleReaderSketch::getRegisters)
+                .hasValueSatisfying(registers -> assertThat(registers).hasSize(HyperLogLog.REGISTERS));
+        assertThat((double) estimate).isCloseTo(100, within(3.0));
+        assertThat(articleReaderCounter.uniqueReaders(1L)).isEqualTo(estimate);
+    }
+
+    @DisplayName("Flush into an existing sketch -> merge with the readers already stored")
+    @Test
+    void flushIntoExistingSketchMerge() {
+
+        articleReaderCounter.record(2L, "user:kim");
+        articleReaderCounter.flush();
+        articleReaderCounter.record(2L, "user:kim");
+        articleReaderCounter.record(2L, "user:lee");
+        articleReaderCounter.flush();
+
+        assertThat(articleReaderCounter.uniqueReaders(2L)).isEqualTo(2);
+    }
+
+    @DisplayName("Hashtag readers -> union of the readers of its articles")
+    @Test
+    void hashtagReadersUnionOfArticles() {
+
+        String hashtagName = "purple";
+        List<Long> tagged = articleReaderSketchRepository.findArticleIdsByHashtagName(hashtagName);
+        assertThat(tagged).hasSizeGreaterThan(1);
+        for (int i = 0; i < 1_000; i++) {
+            articleReaderCounter.record(tagged.get(0), "user:reader" + i);
+            articleReaderCounter.record(tagged.get(1), "user:reader" + (i + 500));
+        }
+        articleReaderCounter.flush();
+        articleReaderCounter.record(tagged.get(1), "user:late");
+
+        assertThat((double) articleReaderCounter.uniqueReadersOfHashtag(hashtagName)).isCloseTo(1_501, within(75.0));
+        assertThat(articleReaderCounter.uniqueReadersOfHashtag("no-such-hashtag")).isZero();
+    }
+
+    @DisplayName("Hashtag readers asked again -> stored sketches read once, pending and flushed readers still counted")
+    @Test
+    void hashtagReadersAskedAgainReuseStoredSketches() {
+
+        String hashtagName = "purple";
+        List<Long> tagged = articleReaderSketchRepository.findArticleIdsByHashtagName(hashtagName);
+        articleReaderCounter.record(tagged.get(0), "user:kim");
+        articleReaderCounter.flush();
+        long before = articleReaderCounter.uniqueReadersOfHashtag(hashtagName);
+
+        articleReaderSketchRepository.deleteAll();
+        long cached = articleReaderCounter.uniqueReadersOfHashtag(hashtagName);
+        articleReaderCounter.record(tagged.get(1), "user:lee");
+        long withPending = articleReaderCounter.uniqueReadersOfHashtag(hashtagName);
+        articleReaderCounter.flush();
+
+        assertThat(cached).isEqualTo(before);
+        assertThat(withPending).isEqualTo(before + 1);
+        assertThat(articleReaderCounter.uniqueReadersOfHashtag(hashtagName)).isEqualTo(1);
+    }
+
+    @DisplayName("Forget a deleted article -> pending and stored readers gone")
+    @Test
+    void forgetDeletedArticleDropReaders() {
+
+        articleReaderCounter.record(3L, "user:kim");
+        articleReaderCounter.flush();
+        articleReaderCounter.record(3L, "user:lee");
+
+        articleReaderCounter.forget(3L);
+        entityManager.clear();
+
+        assertThat(articleReaderSketchRepository.findById(3L)).isEmpty();
+        assertThat(articleReaderCounter.pendingArticleCount()).isZero();
+        assertThat(articleReaderCounter.uniqueReaders(3L)).isZero();
+    }
+}
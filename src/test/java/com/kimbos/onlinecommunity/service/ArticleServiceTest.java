@@ -4,27 +4,37 @@ import com.kimbos.onlinecommunity.domain.Article;
 import com.kimbos.onlinecommunity.domain.Hashtag;
 import com.kimbos.onlinecommunity.domain.UserAccount;
 import com.kimbos.onlinecommunity.domain.enums.SearchType;
+import com.kimbos.onlinecommunity.dto.ArticleCursor;
 import com.kimbos.onlinecommunity.dto.ArticleDto;
-import com.kimbos.onlinecommunity.dto.ArticleWithCommentsDto;
+import com.kimbos.onlinecommunity.dto.ArticleSummaryDto;
 import com.kimbos.onlinecommunity.dto.HashtagDto;
+import com.kimbos.onlinecommunity.dto.HashtagCursor;
+import com.kimbos.onlinecommunity.dto.HashtagSummaryDto;
 import com.kimbos.onlinecommunity.dto.UserAccountDto;
 import com.kimbos.onlinecommunity.repository.ArticleRepository;
-import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.repository.CommentRepository;
 import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchCache;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchIndex;
+import com.kimbos.onlinecommunity.service.search.CommentSearchIndex;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -45,20 +55,27 @@ class ArticleServiceTest {
 
     @Mock private HashtagService hashtagService;
     @Mock private ArticleRepository articleRepository;
+    @Mock private CommentRepository commentRepository;
     @Mock private UserAccountRepository userAccountRepository;
-    @Mock private HashtagRepository hashtagRepository;
+    @Mock private ArticleSearchIndex articleSearchIndex;
+    @Mock private CommentSearchIndex commentSearchIndex;
+    @Mock private HashtagGarbageCollector hashtagGarbageCollector;
+    @Mock private ArticleSearchCache articleSearchCache;
+    @Mock private TrendingHashtags trendingHashtags;
+    @Mock private ArticleReaderCounter articleReaderCounter;
 
     @DisplayName("Search Article Without Parameter -> Return Articles Page")
     @Test
     void searchArticleWithoutParamsReturnArticlesPage() {
 
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findSummaries(null, pageable)).willReturn(Page.empty());
 
-        Page<ArticleDto> articles = articleService.searchArticles(null, null, pageable);
+        Page<ArticleSummaryDto> articles = articleService.searchArticles(null, null, pageable);
 
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        then(articleRepository).should().findSummaries(null, pageable);
+        then(articleRepository).should(never()).findAll(any(Pageable.class));
     }
 
     @DisplayName("Search Article With Parameter -> Return Article Page")
@@ -68,12 +85,102 @@ class ArticleServiceTest {
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable)).willReturn(Page.empty());
 
-        Page<ArticleDto> articles = articleService.searchArticles(searchType, searchKeyword, pageable);
+        Page<ArticleSummaryDto> articles = articleService.searchArticles(searchType, searchKeyword, pageable);
 
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleSearchIndex).should().search(searchType, searchKeyword, pageable);
+        then(articleRepository).should(never()).findByTitleContaining(any(), any());
+    }
+
+    @DisplayName("Search Article With Content Keyword -> Return Articles in Index Ranking Order")
+    @Test
+    void searchArticleWithContentKeywordReturnArticlesInRankingOrder() {
+
+        SearchType searchType = SearchType.CONTENT;
+        String searchKeyword = "spring";
+        Pageable pageable = Pageable.ofSize(20);
+        List<Long> rankedIds = List.of(2L, 1L);
+        given(articleSearchIndex.search(searchType, searchKeyword, pageable)).willReturn(new PageImpl<>(rankedIds, pageable, 2));
+        given(articleRepository.findSummariesByIds(rankedIds)).willReturn(List.of(createArticleSummaryDto(1L), createArticleSummaryDto(2L)));
+
+        Page<ArticleSummaryDto> articles = articleService.searchArticles(searchType, searchKeyword, pageable);
+
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        assertThat(articles.getContent()).extracting("id").containsExactly(2L, 1L);
+        then(articleSearchIndex).should().search(searchType, searchKeyword, pageable);
+        then(articleRepository).should().findSummariesByIds(rankedIds);
+    }
+
+    @DisplayName("Search Article With Cached Hashtag Keyword -> Load Cached Ids Without Search Query")
+    @Test
+    void searchArticleWithCachedHashtagKeywordLoadCachedIds() {
+
+        SearchType searchType = SearchType.HASHTAG;
+        String searchKeyword = "java";
+        Pageable pageable = Pageable.ofSize(20);
+        List<Long> cachedIds = List.of(2L, 1L);
+        given(articleSearchCache.get(ArticleSearchCache.Key.of(searchType, searchKeyword, pageable)))
+                .willReturn(Optional.of(new PageImpl<>(cachedIds, pageable, 2)));
+        given(articleRepository.findSummariesByIds(cachedIds)).willReturn(List.of(createArticleSummaryDto(1L), createArticleSummaryDto(2L)));
+
+        Page<ArticleSummaryDto> articles = articleService.searchArticles(searchType, searchKeyword, pageable);
+
+        assertThat(articles.getTotalElements()).isEqualTo(2);
+        assertThat(articles.getContent()).extracting("id").containsExactly(2L, 1L);
+        then(articleRepository).should(never()).findSummaries(any(), any());
+        then(articleSearchCache).should(never()).put(any(), any(), anyLong());
+    }
+
+    @DisplayName("Search Article With Uncached Hashtag Keyword -> Query and Cache Ids")
+    @Test
+    void searchArticleWithUncachedHashtagKeywordQueryAndCacheIds() {
+
+        SearchType searchType = SearchType.HASHTAG;
+        String searchKeyword = "java";
+        Pageable pageable = Pageable.ofSize(20);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(searchType, searchKeyword, pageable);
+        given(articleSearchCache.get(key)).willReturn(Optional.empty());
+        given(articleSearchCache.stamp()).willReturn(7L);
+        given(articleRepository.findSummaries(any(), eq(pageable))).willReturn(new PageImpl<>(List.of(createArticleSummaryDto(3L)), pageable, 1));
+
+        Page<ArticleSummaryDto> articles = articleService.searchArticles(searchType, searchKeyword, pageable);
+
+        assertThat(articles.getContent()).extracting("id").containsExactly(3L);
+        then(articleSearchCache).should().put(eq(key), argThat(ids -> ids.getContent().equals(List.of(3L))), eq(7L));
+        then(trendingHashtags).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Search Article With Cursor -> Fetch One Extra Row to Tell If There Is a Next Slice")
+    @Test
+    void searchArticleWithCursorReturnSliceWithNext() {
+
+        ArticleCursor cursor = ArticleCursor.of(LocalDateTime.now(), 30L);
+        given(articleRepository.findSummariesAfter(null, cursor, 3))
+                .willReturn(List.of(createArticleSummaryDto(29L), createArticleSummaryDto(28L), createArticleSummaryDto(27L)));
+
+        Slice<ArticleSummaryDto> articles = articleService.searchArticles(null, null, cursor, 2);
+
+        assertThat(articles.getContent()).extracting("id").containsExactly(29L, 28L);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findSummariesAfter(null, cursor, 3);
+    }
+
+    @DisplayName("Search Article With Title Keyword and Cursor -> Return Articles in Index Keyset Order")
+    @Test
+    void searchArticleWithTitleKeywordAndCursorReturnArticlesInKeysetOrder() {
+
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "spring";
+        List<Long> keysetIds = List.of(5L, 3L);
+        given(articleSearchIndex.searchAfter(searchType, searchKeyword, null, 11)).willReturn(keysetIds);
+        given(articleRepository.findSummariesByIds(keysetIds)).willReturn(List.of(createArticleSummaryDto(3L), createArticleSummaryDto(5L)));
+
+        Slice<ArticleSummaryDto> articles = articleService.searchArticles(searchType, searchKeyword, null, 10);
+
+        assertThat(articles.getContent()).extracting("id").containsExactly(5L, 3L);
+        assertThat(articles.hasNext()).isFalse();
     }
 
     @DisplayName("Look Up Article by Article Id -> Return Article")
@@ -82,9 +189,9 @@ class ArticleServiceTest {
 
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articleRepository.findWithDetailsById(articleId)).willReturn(Optional.of(article));
 
-        ArticleWithCommentsDto dto = articleService.getArticleWithComments(articleId);
+        ArticleDto dto = articleService.getArticle(articleId);
 
         assertThat(dto)
                 .hasFieldOrPropertyWithValue("title", article.getTitle())
@@ -94,7 +201,7 @@ class ArticleServiceTest {
                         .map(HashtagDto::from)
                         .collect(Collectors.toUnmodifiableSet()));
 
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithDetailsById(articleId);
     }
 
     @DisplayName("Look Up Nonexistent Article by Article Id -> Throw Exception")
@@ -102,14 +209,14 @@ class ArticleServiceTest {
     void lookUpNonexistentArticleIdThrowException() {
 
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(articleRepository.findWithDetailsById(articleId)).willReturn(Optional.empty());
 
         Throwable t = catchThrowable(() -> articleService.getArticle(articleId));
 
         assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("There is no article - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithDetailsById(articleId);
     }
 
     @DisplayName("Search Article by Nonexistent hashtag return empty page")
@@ -126,6 +233,7 @@ class ArticleServiceTest {
         // Then
         assertThat(articles).isEqualTo(Page.empty(pageable));
         then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(trendingHashtags).shouldHaveNoInteractions();
     }
 
     @DisplayName("Search Article By Hashtag Without Parameter -> Return Empty Page")
@@ -144,29 +252,40 @@ class ArticleServiceTest {
     @Test
     void searchArticleByHashTagWithParamReturnArticlesPage() {
 
-        String hashtagName = "#java spring";
+        String searchValue = " #java spring";
         Pageable pageable = Pageable.ofSize(20);
         Article expectedArticle = createArticle();
-        given(articleRepository.findByHashtagNames(List.of(hashtagName), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
+        given(articleRepository.findByHashtagNames(List.of("java spring"), pageable)).willReturn(new PageImpl<>(List.of(expectedArticle), pageable, 1));
 
-        Page<ArticleDto> articles = articleService.searchArticlesByHashtag(hashtagName, pageable);
+        Page<ArticleDto> articles = articleService.searchArticlesByHashtag(searchValue, pageable);
 
         assertThat(articles).isEqualTo(new PageImpl<>(List.of(ArticleDto.from(expectedArticle)), pageable, 1));
-        then(articleRepository).should().findByHashtagNames(List.of(hashtagName), pageable);
+        then(articleRepository).should().findByHashtagNames(List.of("java spring"), pageable);
     }
 
-    @DisplayName("Look up Hashtag -> return unique hashtag list")
+    @DisplayName("Count Hashtag Search -> Count the Normalized Name, Ignore Blank Names")
     @Test
-    void lookupHashtagReturnUniqueHashtagList() {
+    void countHashtagSearchCountNormalizedName() {
 
-        Article article = createArticle();
-        List<String> hashtags = List.of("#java", "#spring", "#boot");
-        given(hashtagRepository.findAllHashtagNames()).willReturn(hashtags);
+        articleService.countHashtagSearch(" ##java ");
+        articleService.countHashtagSearch("# ");
+
+        then(trendingHashtags).should().searched("java");
+        then(trendingHashtags).shouldHaveNoMoreInteractions();
+    }
 
-        List<String> actualHashtags = articleService.getHashtags();
+    @DisplayName("Look up Hashtag Directory -> Return Slice from Hashtag Service")
+    @Test
+    void lookupHashtagDirectoryReturnSlice() {
+
+        HashtagCursor cursor = HashtagCursor.of(5, "jpa");
+        Slice<HashtagSummaryDto> directory = new SliceImpl<>(List.of(HashtagSummaryDto.of("java", 3)), Pageable.ofSize(50), false);
+        given(hashtagService.getHashtagDirectory("ja", cursor, 50)).willReturn(directory);
 
-        assertThat(actualHashtags).isEqualTo(hashtags);
-        then(hashtagRepository).should().findAllHashtagNames();
+        Slice<HashtagSummaryDto> actualDirectory = articleService.getHashtagDirectory("ja", cursor, 50);
+
+        assertThat(actualDirectory).isEqualTo(directory);
+        then(hashtagService).should().getHashtagDirectory("ja", cursor, 50);
     }
 
     @DisplayName("Give Article Information -> Create Article")
@@ -180,15 +299,20 @@ class ArticleServiceTest {
 
         given(userAccountRepository.getReferenceById(articleDto.userAccountDto().userId())).willReturn(createUserAccount());
         given(hashtagService.parseHashtagNames(articleDto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.findOrCreateHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
         given(articleRepository.save(any(Article.class))).willReturn(createArticle());
 
         articleService.saveArticle(articleDto);
 
         then(userAccountRepository).should().getReferenceById(articleDto.userAccountDto().userId());
         then(hashtagService).should().parseHashtagNames(articleDto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().findOrCreateHashtags(expectedHashtagNames);
         then(articleRepository).should().save(any(Article.class));
+        then(articleSearchIndex).should().index(any(Article.class));
+        then(articleSearchCache).should().evictHashtags(Set.of("java"));
+        then(articleSearchCache).should().evictAuthorSearches();
+        then(hashtagService).should().addArticleCount(argThat(hashtagsNamed("java")), eq(1));
+        then(trendingHashtags).should().articleTagged(Set.of("java"));
     }
 
     @DisplayName("Give Modified Article Information -> Update Article")
@@ -199,13 +323,12 @@ class ArticleServiceTest {
         ArticleDto articleDto = createArticleDto("New title", "New content #springboot");
         Set<String> expectedHashtagNames = Set.of("springboot");
         Set<Hashtag> expectedHashtags = new HashSet<>();
+        expectedHashtags.add(createHashtag("springboot"));
 
         given(articleRepository.getReferenceById(articleDto.id())).willReturn(article);
         given(userAccountRepository.getReferenceById(articleDto.userAccountDto().userId())).willReturn(articleDto.userAccountDto().toEntity());
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
         given(hashtagService.parseHashtagNames(articleDto.content())).willReturn(expectedHashtagNames);
-        given(hashtagService.findHashtagsByNames(expectedHashtagNames)).willReturn(expectedHashtags);
+        given(hashtagService.findOrCreateHashtags(expectedHashtagNames)).willReturn(expectedHashtags);
 
         articleService.updateArticle(articleDto.id(), articleDto);
 
@@ -217,10 +340,34 @@ class ArticleServiceTest {
                 .extracting("hashtagName")
                 .containsExactly("springboot");
         then(articleRepository).should().getReferenceById(articleDto.id());
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(hashtagGarbageCollector).should().enqueue(argThat(hashtagIds -> hashtagIds.size() == 2));
         then(hashtagService).should().parseHashtagNames(articleDto.content());
-        then(hashtagService).should().findHashtagsByNames(expectedHashtagNames);
+        then(hashtagService).should().findOrCreateHashtags(expectedHashtagNames);
+        then(articleSearchIndex).should().index(article);
+        then(articleSearchCache).should().evictHashtags(Set.of("java", "spring", "springboot"));
+        then(hashtagService).should().addArticleCount(argThat(hashtagsNamed("java", "spring")), eq(-1));
+        then(hashtagService).should().addArticleCount(argThat(hashtagsNamed("springboot")), eq(1));
+    }
+
+    @DisplayName("Give Modified Content with Same Hashtags -> Keep Hashtags Untouched")
+    @Test
+    void giveModifiedContentWithSameHashtagsKeepHashtags() {
+
+        Article article = createArticle();
+        Set<Hashtag> previousHashtags = Set.copyOf(article.getHashtags());
+        ArticleDto articleDto = createArticleDto("title", "typo fixed #java #spring");
+
+        given(articleRepository.getReferenceById(articleDto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(articleDto.userAccountDto().userId())).willReturn(articleDto.userAccountDto().toEntity());
+        given(hashtagService.parseHashtagNames(articleDto.content())).willReturn(Set.of("java", "spring"));
+
+        articleService.updateArticle(articleDto.id(), articleDto);
+
+        assertThat(article.getContent()).isEqualTo(articleDto.content());
+        assertThat(article.getHashtags()).containsExactlyInAnyOrderElementsOf(previousHashtags);
+        then(hashtagService).should(never()).findOrCreateHashtags(any());
+        then(hashtagService).should(never()).addArticleCount(any(), anyInt());
+        then(hashtagGarbageCollector).shouldHaveNoInteractions();
     }
 
     @DisplayName("Give Nonexistent Article Information -> Give Warning Log Do Nothing")
@@ -237,6 +384,19 @@ class ArticleServiceTest {
         then(hashtagService).shouldHaveNoInteractions();
     }
 
+    @DisplayName("Look Up Neighbours of Article -> Seek by Its Creation Time and ID")
+    @Test
+    void lookUpNeighboursOfArticleSeekByPosition() {
+
+        ArticleDto dto = createArticleDto();
+        ArticleCursor position = ArticleCursor.of(dto.createdAt(), dto.id());
+        given(articleRepository.findPreviousId(position)).willReturn(Optional.of(1L));
+        given(articleRepository.findNextId(position)).willReturn(Optional.empty());
+
+        assertThat(articleService.getPreviousArticleId(dto)).contains(1L);
+        assertThat(articleService.getNextArticleId(dto)).isEmpty();
+    }
+
     @DisplayName("Give Article ID -> Delete Article")
     @Test
     void giveArticleIdDeleteArticle() {
@@ -244,21 +404,30 @@ class ArticleServiceTest {
         Long articleId = 1L;
         String userId = "kim";
         given(articleRepository.getReferenceById(articleId)).willReturn(createArticle());
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
-        willDoNothing().given(articleRepository).flush();
-        willDoNothing().given(hashtagService).deleteHashtagWithoutArticles(any());
+        given(commentRepository.findIdsByArticleId(articleId)).willReturn(List.of(10L, 11L));
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(1L);
 
         articleService.deleteArticle(1L, userId);
 
         then(articleRepository).should().getReferenceById(articleId);
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
-        then(articleRepository).should().flush();
-        then(hashtagService).should(times(2)).deleteHashtagWithoutArticles(any());
+        then(articleSearchIndex).should().remove(articleId);
+        then(commentSearchIndex).should().remove(10L);
+        then(commentSearchIndex).should().remove(11L);
+        then(hashtagService).should().addArticleCount(argThat(hashtagsNamed("java", "spring")), eq(-1));
+        then(hashtagGarbageCollector).should().enqueue(argThat(hashtagIds -> hashtagIds.size() == 2));
+        then(articleSearchCache).should().evictHashtags(Set.of("java", "spring"));
+        then(articleSearchCache).should().evictAuthorSearches();
+        then(articleReaderCounter).should().forget(articleId);
     }
 
 
     /**********************************************/
     /********** Private Methods for Test **********/
+
+    private ArgumentMatcher<Collection<Hashtag>> hashtagsNamed(String... hashtagNames) {
+        return hashtags -> hashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toSet()).equals(Set.of(hashtagNames));
+    }
     /**********************************************/
 
     private UserAccount createUserAccount() {
@@ -295,6 +464,10 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArticleSummaryDto createArticleSummaryDto(Long id) {
+        return ArticleSummaryDto.of(id, "title", Set.of("java"), LocalDateTime.now(), "kim", "kim@mail.com", "Kim", 0);
+    }
+
     private Hashtag createHashtag(String hashtagName) {
         return createHashtag(1L, hashtagName);
     }
@@ -0,0 +1,113 @@
+package com.kimbos.onlinecommunity.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Business Logic - Article View Counter")
+@Import(ArticleViewCounter.class)
+@DataJpaTest
+class ArticleViewCounterTest {
+
+    @Autowired private ArticleViewCounter articleViewCounter;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DataSource dataSource;
+
+    // The counter outlives the rolled back test transactions, so views left by another test are written off first
+    @BeforeEach
+    void flushLeftovers() {
+        articleViewCounter.flush();
+    }
+
+    @DisplayName("Views from many threads -> pending until flush, then added to the rows in one batch")
+    @Test
+    void viewsPendingUntilFlushThenAdded() throws InterruptedException {
+
+        long before = viewCountOf(1L);
+        long before2 = viewCountOf(2L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    articleViewCounter.increment(1L);
+                    articleViewCounter.increment(2L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(articleViewCounter.pendingCount()).isEqualTo(16_000);
+        assertThat(viewCountOf(1L)).isEqualTo(before);
+
+        articleViewCounter.flush();
+
+        assertThat(articleViewCounter.pendingCount()).isZero();
+        assertThat(viewCountOf(1L)).isEqualTo(before + 8_000);
+        assertThat(viewCountOf(2L)).isEqualTo(before2 + 8_000);
+    }
+
+    @DisplayName("Flush again -> only views since the last flush are added")
+    @Test
+    void flushAgainAddOnlyNewViews() {
+
+        long before = viewCountOf(3L);
+        articleViewCounter.increment(3L);
+        articleViewCounter.flush();
+        articleViewCounter.flush();
+        articleViewCounter.increment(3L);
+        articleViewCounter.flush();
+
+        assertThat(viewCountOf(3L)).isEqualTo(before + 2);
+        assertThat(articleViewCounter.pendingCount()).isZero();
+    }
+
+    @DisplayName("Flush fails -> views stay pending for the next flush")
+    @Test
+    void flushFailsViewsStayPending() {
+
+        JdbcTemplate timingOut = new JdbcTemplate(dataSource) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                throw new QueryTimeoutException("timeout");
+            }
+        };
+        ArticleViewCounter counter = new ArticleViewCounter(timingOut, new DataSourceTransactionManager(dataSource));
+        counter.increment(4L);
+        counter.increment(4L);
+
+        counter.flush();
+
+        assertThat(counter.pendingCount()).isEqualTo(2);
+    }
+
+    @DisplayName("Bind metrics -> publish pending views")
+    @Test
+    void bindMetricsPublishPendingViews() {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        articleViewCounter.bindTo(registry);
+        articleViewCounter.increment(5L);
+
+        assertThat(registry.get("article.views.pending").gauge().value()).isEqualTo(1);
+    }
+
+    private long viewCountOf(Long articleId) {
+        return jdbcTemplate.queryForObject("select view_count from article where id = ?", Long.class, articleId);
+    }
+}
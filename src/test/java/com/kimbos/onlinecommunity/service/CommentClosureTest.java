@@ -0,0 +1,64 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.domain.Comment;
+import com.kimbos.onlinecommunity.dto.CommentDto;
+import com.kimbos.onlinecommunity.dto.UserAccountDto;
+import com.kimbos.onlinecommunity.repository.CommentClosureRepository;
+import com.kimbos.onlinecommunity.repository.CommentRepository;
+import com.kimbos.onlinecommunity.service.search.CommentSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Business Logic - Comment Closure")
+@Import({CommentService.class, CommentClosureTest.TestJpaConfig.class})
+@DataJpaTest
+class CommentClosureTest {
+
+    @Autowired private CommentService commentService;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private CommentClosureRepository commentClosureRepository;
+
+    @MockBean private CommentSearchIndex commentSearchIndex;
+
+    @DisplayName("Save root comment and reply -> write the self path and the paths from every ancestor")
+    @Test
+    void saveRootCommentAndReplyWritePaths() {
+
+        UserAccountDto kim = UserAccountDto.of("kim", "pw", null, null, null);
+
+        commentService.saveComment(CommentDto.of(1L, kim, "new root"));
+        Comment root = latestComment();
+        commentService.saveComment(CommentDto.of(1L, kim, root.getId(), "new reply"));
+        Comment reply = latestComment();
+
+        assertThat(commentClosureRepository.findSubtreeIds(root.getId())).containsExactlyInAnyOrder(root.getId(), reply.getId());
+        assertThat(commentClosureRepository.findSubtreeIds(reply.getId())).containsExactly(reply.getId());
+        assertThat(commentClosureRepository.findAncestorIds(reply.getId())).containsExactly(root.getId());
+    }
+
+    private Comment latestComment() {
+        return commentRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).get(0);
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("kim");
+        }
+    }
+}
@@ -7,19 +7,27 @@ import com.kimbos.onlinecommunity.domain.UserAccount;
 import com.kimbos.onlinecommunity.dto.CommentDto;
 import com.kimbos.onlinecommunity.dto.UserAccountDto;
 import com.kimbos.onlinecommunity.repository.ArticleRepository;
+import com.kimbos.onlinecommunity.repository.CommentClosureRepository;
 import com.kimbos.onlinecommunity.repository.CommentRepository;
 import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import com.kimbos.onlinecommunity.service.search.CommentSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,8 +42,10 @@ class CommentServiceTest {
     @InjectMocks private CommentService commentService;
 
     @Mock private CommentRepository commentRepository;
+    @Mock private CommentClosureRepository commentClosureRepository;
     @Mock private ArticleRepository articleRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private CommentSearchIndex commentSearchIndex;
 
 
     @DisplayName("Search Article by ID -> return comment list")
@@ -63,6 +73,58 @@ class CommentServiceTest {
         then(commentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("Search root Comments of Article -> one page of comments that start a thread")
+    @Test
+    void searchRootCommentsReturnCommentPage() {
+
+        Long articleId = 1L;
+        Pageable pageable = Pageable.ofSize(20);
+        given(commentRepository.findByArticle_IdAndParentCommentIdIsNull(articleId, pageable))
+                .willReturn(new PageImpl<>(List.of(createComment(1L, "root")), pageable, 41));
+
+        Page<CommentDto> actual = commentService.getRootComments(articleId, pageable);
+
+        assertThat(actual.getContent()).extracting("id").containsExactly(1L);
+        assertThat(actual.getTotalPages()).isEqualTo(3);
+        then(commentRepository).should(never()).findByArticle_Id(any());
+    }
+
+    @DisplayName("Search Replies of Comment -> one slice of direct replies")
+    @Test
+    void searchRepliesReturnReplySlice() {
+
+        Long commentId = 1L;
+        Pageable pageable = Pageable.ofSize(2);
+        Comment reply = createComment(2L, "reply");
+        reply.setParentCommentId(commentId);
+        given(commentRepository.findByParentCommentId(commentId, pageable))
+                .willReturn(new SliceImpl<>(List.of(reply), pageable, true));
+
+        Slice<CommentDto> actual = commentService.getReplies(commentId, 1, pageable);
+
+        assertThat(actual.getContent()).extracting("id", "parentCommentId").containsExactly(tuple(2L, commentId));
+        assertThat(actual.hasNext()).isTrue();
+        then(commentRepository).should(never()).findSubtree(any(), anyInt(), any());
+    }
+
+    @DisplayName("Search Replies of Comment with depth -> one slice of the subtree from the closure table")
+    @Test
+    void searchRepliesWithDepthReturnSubtreeSlice() {
+
+        Long commentId = 1L;
+        Pageable pageable = Pageable.ofSize(2);
+        Comment nestedReply = createComment(3L, "nested reply");
+        nestedReply.setParentCommentId(2L);
+        given(commentRepository.findSubtree(commentId, 3, pageable))
+                .willReturn(new SliceImpl<>(List.of(nestedReply), pageable, false));
+
+        Slice<CommentDto> actual = commentService.getReplies(commentId, 3, pageable);
+
+        assertThat(actual.getContent()).extracting("id", "parentCommentId").containsExactly(tuple(3L, 2L));
+        assertThat(actual.hasNext()).isFalse();
+        then(commentRepository).should(never()).findByParentCommentId(any(), any());
+    }
+
     @DisplayName("Input comment information -> create a comment")
     @Test
     void inputCommentInformationCreateComment() {
@@ -78,6 +140,10 @@ class CommentServiceTest {
         then(userAccountRepository).should().getReferenceById(commentDto.userAccountDto().userId());
         then(commentRepository).should(never()).getReferenceById(anyLong());
         then(commentRepository).should().save(any(Comment.class));
+        then(commentClosureRepository).should().insertPaths(any());
+        then(articleRepository).should().addCommentCount(commentDto.articleId(), 1);
+        then(commentRepository).should(never()).addReplyCountToAncestors(any(), anyLong());
+        then(commentSearchIndex).should().index(any(Comment.class));
     }
 
     @DisplayName("Try Save New Comment -> Do Nothing Give Log If Nonexistent Article")
@@ -112,6 +178,29 @@ class CommentServiceTest {
         then(userAccountRepository).should().getReferenceById(child.userAccountDto().userId());
         then(commentRepository).should().getReferenceById(child.parentCommentId());
         then(commentRepository).should(never()).save(any(Comment.class));
+        then(commentRepository).should().flush();
+        then(commentClosureRepository).should().insertPaths(any());
+        then(articleRepository).should().addCommentCount(child.articleId(), 1);
+        then(commentRepository).should().addReplyCountToAncestors(any(), eq(1L));
+    }
+
+    @DisplayName("Search Comments by Keyword -> return comments in index ranking order")
+    @Test
+    void searchCommentsByKeywordReturnCommentsInRankingOrder() {
+
+        String keyword = "댓글";
+        Pageable pageable = Pageable.ofSize(10);
+        List<Long> rankedIds = List.of(2L, 1L);
+        given(commentSearchIndex.search(keyword, pageable)).willReturn(new PageImpl<>(rankedIds, pageable, 2));
+        given(commentRepository.findAllById(rankedIds)).willReturn(List.of(
+                createComment(1L, "첫 댓글"),
+                createComment(2L, "댓글 댓글")
+        ));
+
+        Page<CommentDto> actual = commentService.searchCommentsByKeyword(keyword, pageable);
+
+        assertThat(actual.getContent()).extracting("id").containsExactly(2L, 1L);
+        then(commentSearchIndex).should().search(keyword, pageable);
     }
 
     @DisplayName("Input CommentId -> Delete Comment.")
@@ -120,11 +209,51 @@ class CommentServiceTest {
 
         Long commentId = 1L;
         String userId = "kim";
-        willDoNothing().given(commentRepository).deleteByIdAndUserAccount_UserId(commentId, userId);
+        given(commentRepository.findArticleIdById(commentId)).willReturn(Optional.of(1L));
+        given(commentClosureRepository.findSubtreeIds(commentId)).willReturn(List.of(commentId));
+        given(commentRepository.deleteByIdAndUserAccount_UserId(commentId, userId)).willReturn(1L);
 
         commentService.deleteComment(commentId, userId);
 
         then(commentRepository).should().deleteByIdAndUserAccount_UserId(commentId, userId);
+        then(articleRepository).should().addCommentCount(1L, -1);
+        then(commentRepository).should(never()).addReplyCount(any(), anyLong());
+        then(commentSearchIndex).should().remove(commentId);
+    }
+
+    @DisplayName("Delete Reply with replies -> whole subtree leaves the counters and the search index")
+    @Test
+    void deleteCommentWithRepliesRemoveWholeSubtreeFromIndex() {
+
+        Long commentId = 1L;
+        String userId = "kim";
+        given(commentRepository.findArticleIdById(commentId)).willReturn(Optional.of(10L));
+        given(commentClosureRepository.findSubtreeIds(commentId)).willReturn(List.of(commentId, 2L, 3L));
+        given(commentClosureRepository.findAncestorIds(commentId)).willReturn(List.of(7L));
+        given(commentRepository.deleteByIdAndUserAccount_UserId(commentId, userId)).willReturn(1L);
+
+        commentService.deleteComment(commentId, userId);
+
+        then(articleRepository).should().addCommentCount(10L, -3);
+        then(commentRepository).should().addReplyCount(List.of(7L), -3);
+        then(commentSearchIndex).should().remove(commentId);
+        then(commentSearchIndex).should().remove(2L);
+        then(commentSearchIndex).should().remove(3L);
+    }
+
+    @DisplayName("Delete someone else's Comment -> search index is untouched")
+    @Test
+    void deleteOthersCommentKeepSearchIndex() {
+
+        Long commentId = 1L;
+        given(commentRepository.findArticleIdById(commentId)).willReturn(Optional.of(1L));
+        given(commentClosureRepository.findSubtreeIds(commentId)).willReturn(List.of(commentId));
+        given(commentRepository.deleteByIdAndUserAccount_UserId(commentId, "other")).willReturn(0L);
+
+        commentService.deleteComment(commentId, "other");
+
+        then(articleRepository).should(never()).addCommentCount(any(), anyLong());
+        then(commentSearchIndex).shouldHaveNoInteractions();
     }
 
 
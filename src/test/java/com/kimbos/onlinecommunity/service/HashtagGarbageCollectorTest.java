@@ -0,0 +1,67 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.domain.Hashtag;
+import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("Business Logic - Hashtag Garbage Collector")
+@ExtendWith(MockitoExtension.class)
+class HashtagGarbageCollectorTest {
+
+    private HashtagGarbageCollector hashtagGarbageCollector;
+
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        hashtagGarbageCollector = new HashtagGarbageCollector(hashtagRepository, transactionManager);
+    }
+
+    @DisplayName("Collect candidates -> delete the orphans in one statement")
+    @Test
+    void collectCandidatesDeleteOrphans() {
+
+        hashtagGarbageCollector.enqueue(Set.of(1L, 2L, 3L));
+        given(hashtagRepository.findOrphans(any())).willReturn(List.of(createHashtag(1L, "java"), createHashtag(3L, "spring")));
+        given(hashtagRepository.deleteOrphans(List.of(1L, 3L))).willReturn(2L);
+
+        hashtagGarbageCollector.collect();
+
+        assertThat(hashtagGarbageCollector.pendingCount()).isZero();
+        then(hashtagRepository).should().deleteOrphans(List.of(1L, 3L));
+    }
+
+    @DisplayName("Collect candidates without orphans -> delete nothing")
+    @Test
+    void collectCandidatesWithoutOrphansDeleteNothing() {
+
+        hashtagGarbageCollector.enqueue(Set.of(1L));
+        given(hashtagRepository.findOrphans(any())).willReturn(List.of());
+
+        hashtagGarbageCollector.collect();
+
+        then(hashtagRepository).should(never()).deleteOrphans(any());
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+
+        return hashtag;
+    }
+}
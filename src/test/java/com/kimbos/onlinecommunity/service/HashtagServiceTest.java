@@ -2,6 +2,7 @@ package com.kimbos.onlinecommunity.service;
 
 import com.kimbos.onlinecommunity.domain.Hashtag;
 import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -19,6 +23,9 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 
 @DisplayName("Business Logic - Hashtag")
@@ -31,6 +38,12 @@ class HashtagServiceTest {
     @Mock
     private HashtagRepository hashtagRepository;
 
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
     @DisplayName("Parsing content -> return unique hashtag names.")
     @MethodSource
     @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
@@ -84,19 +97,53 @@ class HashtagServiceTest {
         );
     }
 
-    @DisplayName("Input hashtag names -> return hashtag that match in saving without duplicated.")
+    @DisplayName("Input hashtag names -> share-lock the existing hashtags and create the missing ones.")
     @Test
-    void inputHashtagNamesReturnHashtagSet() {
-        
+    void inputHashtagNamesReturnExistingAndNewHashtags() {
+
         Set<String> hashtagNames = Set.of("java", "spring", "boots");
-        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(
-                Hashtag.of("java"),
-                Hashtag.of("spring")
+        given(hashtagRepository.findByHashtagNameInForShare(hashtagNames)).willReturn(List.of(
+                createHashtag(1L, "java"),
+                createHashtag(2L, "spring")
         ));
-        
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNames);
-        
-        assertThat(hashtags).hasSize(2);
-        then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
+
+        Set<Hashtag> hashtags = hashtagService.findOrCreateHashtags(hashtagNames);
+
+        assertThat(hashtags).extracting("hashtagName").containsExactlyInAnyOrder("java", "spring", "boots");
+        assertThat(hashtags).filteredOn(hashtag -> hashtag.getId() == null).extracting("hashtagName").containsExactly("boots");
+        then(hashtagRepository).should().findByHashtagNameInForShare(hashtagNames);
+    }
+
+    @DisplayName("Input no hashtag names -> return nothing without a query.")
+    @Test
+    void inputNoHashtagNamesReturnNothing() {
+
+        Set<Hashtag> hashtags = hashtagService.findOrCreateHashtags(Set.of());
+
+        assertThat(hashtags).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Add article count -> evict only the changed hashtags from the second-level cache.")
+    @Test
+    void addArticleCountEvictOnlyChangedHashtags() {
+
+        Cache cache = mock(Cache.class);
+        given(entityManagerFactory.getCache()).willReturn(cache);
+
+        hashtagService.addArticleCount(Set.of(createHashtag(1L, "java"), createHashtag(2L, "spring")), 1);
+
+        then(hashtagRepository).should().addArticleCount(Set.of("java", "spring"), 1);
+        then(cache).should().evict(Hashtag.class, 1L);
+        then(cache).should().evict(Hashtag.class, 2L);
+        then(cache).shouldHaveNoMoreInteractions();
+        then(suggestionIndex).should().addHashtags(Set.of("java", "spring"), 1);
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+
+        return hashtag;
     }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.domain.enums.TrendWindow;
+import com.kimbos.onlinecommunity.dto.TrendingHashtagDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Business Logic - Trending Hashtags")
+class TrendingHashtagsTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final TrendingHashtags trendingHashtags = new TrendingHashtags(clock);
+
+    @DisplayName("Tag and search hashtags -> top list is ordered by count")
+    @Test
+    void tagAndSearchHashtagsTopListOrderedByCount() {
+
+        trendingHashtags.articleTagged(List.of("java", "spring"));
+        trendingHashtags.searched("java");
+        trendingHashtags.searched("java");
+        trendingHashtags.searched("kotlin");
+        trendingHashtags.searched("spring");
+
+        assertThat(trendingHashtags.top(TrendWindow.HOUR, 10)).containsExactly(
+                TrendingHashtagDto.of("java", 3),
+                TrendingHashtagDto.of("spring", 2),
+                TrendingHashtagDto.of("kotlin", 1)
+        );
+        assertThat(trendingHashtags.top(TrendWindow.WEEK, 1)).containsExactly(TrendingHashtagDto.of("java", 3));
+    }
+
+    @DisplayName("Time passes -> old counts slide out of the shorter windows first")
+    @Test
+    void timePassesOldCountsSlideOut() {
+
+        trendingHashtags.searched("java");
+        trendingHashtags.searched("java");
+        clock.advance(Duration.ofMinutes(50));
+        trendingHashtags.searched("spring");
+
+        clock.advance(Duration.ofMinutes(15));
+
+        assertThat(trendingHashtags.top(TrendWindow.HOUR, 10)).containsExactly(TrendingHashtagDto.of("spring", 1));
+        assertThat(trendingHashtags.top(TrendWindow.DAY, 10)).containsExactly(
+                TrendingHashtagDto.of("java", 2),
+                TrendingHashtagDto.of("spring", 1)
+        );
+
+        clock.advance(Duration.ofDays(8));
+
+        assertThat(trendingHashtags.top(TrendWindow.WEEK, 10)).isEmpty();
+    }
+
+    @DisplayName("More hashtags than candidates -> keep the most used ones")
+    @Test
+    void moreHashtagsThanCandidatesKeepMostUsed() {
+
+        for (int i = 0; i < TrendingHashtags.CANDIDATES * 4; i++) {
+            trendingHashtags.searched("tag" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            trendingHashtags.searched("java");
+        }
+
+        List<TrendingHashtagDto> top = trendingHashtags.top(TrendWindow.HOUR, 100);
+
+        assertThat(top).hasSizeLessThanOrEqualTo(TrendingHashtags.CANDIDATES);
+        assertThat(top.get(0)).isEqualTo(TrendingHashtagDto.of("java", 5));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
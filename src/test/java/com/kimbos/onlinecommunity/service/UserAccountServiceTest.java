@@ -0,0 +1,109 @@
+package com.kimbos.onlinecommunity.service;
+
+import com.kimbos.onlinecommunity.domain.UserAccount;
+import com.kimbos.onlinecommunity.dto.UserAccountDto;
+import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("Business Logic - User Account")
+@ExtendWith(MockitoExtension.class)
+class UserAccountServiceTest {
+
+    @InjectMocks
+    private UserAccountService userAccountService;
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Spy
+    private PrincipalCache principalCache = new PrincipalCache(100, Duration.ofMinutes(1));
+
+    @DisplayName("Search user twice -> read the database once")
+    @Test
+    void searchUserTwiceReadDatabaseOnce() {
+
+        given(userAccountRepository.findById("kim")).willReturn(Optional.of(createUserAccount("kim")));
+
+        Optional<UserAccountDto> first = userAccountService.searchUser("kim");
+        Optional<UserAccountDto> second = userAccountService.searchUser("kim");
+
+        assertThat(first).map(UserAccountDto::userId).contains("kim");
+        assertThat(second).isEqualTo(first);
+        assertThat(principalCache.hitRatio()).isEqualTo(0.5);
+        then(userAccountRepository).should(times(1)).findById("kim");
+    }
+
+    @DisplayName("Search unknown user -> not cached, so a later sign-up is found")
+    @Test
+    void searchUnknownUserNotCached() {
+
+        given(userAccountRepository.findById("kakao_1"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(createUserAccount("kakao_1")));
+
+        assertThat(userAccountService.searchUser("kakao_1")).isEmpty();
+        assertThat(userAccountService.searchUser("kakao_1")).isPresent();
+    }
+
+    @DisplayName("Save user -> evict cached account")
+    @Test
+    void saveUserEvictCachedAccount() {
+
+        given(userAccountRepository.findById("kim")).willReturn(Optional.of(createUserAccount("kim")));
+        given(userAccountRepository.save(any(UserAccount.class))).willAnswer(invocation -> invocation.getArgument(0));
+        userAccountService.searchUser("kim");
+
+        userAccountService.saveUser("kim", "pw", "kim@mail.com", "kimbos", null);
+        userAccountService.searchUser("kim");
+
+        then(principalCache).should().evict("kim");
+        then(userAccountRepository).should(times(2)).findById("kim");
+    }
+
+    @DisplayName("Save user -> move the suggested nickname from the previous one")
+    @Test
+    void saveUserMoveSuggestedNickname() {
+
+        given(userAccountRepository.findNicknameByUserId("kim")).willReturn(Optional.of("kimbos"));
+        given(userAccountRepository.save(any(UserAccount.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        userAccountService.saveUser("kim", "pw", "kim@mail.com", "kimbos2", null);
+
+        then(suggestionIndex).should().changeNickname("kimbos", "kimbos2");
+    }
+
+    @DisplayName("Bind metrics -> publish hit ratio")
+    @Test
+    void bindMetricsPublishHitRatio() {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        principalCache.bindTo(registry);
+
+        assertThat(registry.get("cache.hit.ratio").tag("cache", "principal").gauge()).isNotNull();
+        assertThat(registry.get("cache.gets").tag("cache", "principal").meters()).isNotEmpty();
+    }
+
+    private UserAccount createUserAccount(String userId) {
+        return UserAccount.of(userId, "pw", null, "kim", null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.kimbos.onlinecommunity.service.exporter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimbos.onlinecommunity.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Export - Article Exporter")
+@Import(ArticleExporter.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DataJpaTest
+class ArticleExporterTest {
+
+    @Autowired private ArticleExporter articleExporter;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("Export everything -> one line per article, oldest first, with its hashtags and comments")
+    @Test
+    void exportEverythingOneLinePerArticle() throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = articleExporter.export(null, output);
+        List<JsonNode> lines = parse(output);
+
+        assertThat(exported).isEqualTo(articleRepository.count());
+        assertThat(lines).hasSize((int) exported);
+        assertThat(lines).extracting(line -> line.get("createdAt").asText()).isSorted();
+
+        JsonNode article = lines.stream().filter(line -> line.get("id").asText().equals("49")).findFirst().orElseThrow();
+        assertThat(article.get("hashtags")).isNotEmpty();
+        assertThat(article.get("comments")).anySatisfy(comment -> assertThat(comment.get("parentCommentId").asText()).isEqualTo("1"));
+        assertThat(article.get("comments")).anySatisfy(comment -> assertThat(comment.get("parentCommentId").isNull()).isTrue());
+    }
+
+    @DisplayName("Export since a time -> only articles created at or after it")
+    @Test
+    void exportSinceTimeOnlyNewerArticles() throws IOException {
+
+        LocalDateTime since = LocalDateTime.of(2022, 1, 1, 0, 0);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        articleExporter.export(since, output);
+        List<JsonNode> lines = parse(output);
+
+        assertThat(lines).isNotEmpty();
+        assertThat(lines).allSatisfy(line -> assertThat(LocalDateTime.parse(line.get("createdAt").asText())).isAfterOrEqualTo(since));
+        assertThat(lines.size()).isLessThan((int) articleRepository.count());
+    }
+
+    @DisplayName("Export more than a chunk of articles created at the same time -> every article exactly once")
+    @Test
+    void exportArticlesAcrossChunksEveryArticleOnce() throws IOException {
+
+        LocalDateTime createdAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+        int count = ArticleExporter.CHUNK_SIZE + 10;
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            rows.add(new Object[]{1_000_000 + id, "kim", "title " + id, "content", Timestamp.valueOf(createdAt)});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into article (id, user_id, title, content, comment_count, created_at, created_by, modified_at, modified_by)
+                values (?, ?, ?, ?, 0, ?, 'kim', now(), 'kim')
+                """, rows);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = articleExporter.export(createdAt, output);
+        List<JsonNode> lines = parse(output);
+
+        assertThat(exported).isEqualTo(count);
+        assertThat(lines).extracting(line -> line.get("id").asLong()).doesNotHaveDuplicates().isSorted().hasSize(count);
+    }
+
+    private List<JsonNode> parse(ByteArrayOutputStream output) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,128 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.kimbos.onlinecommunity.domain.Article;
+import com.kimbos.onlinecommunity.domain.ImportCheckpoint;
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+import com.kimbos.onlinecommunity.repository.ArticleRepository;
+import com.kimbos.onlinecommunity.repository.CommentClosureRepository;
+import com.kimbos.onlinecommunity.repository.CommentRepository;
+import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchCache;
+import com.kimbos.onlinecommunity.service.search.ArticleSearchIndex;
+import com.kimbos.onlinecommunity.service.search.CommentSearchIndex;
+import com.kimbos.onlinecommunity.service.search.SuggestionIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+
+// MariaDB mode, for the upsert syntax the writer sends to the production database
+@DisplayName("Bulk Import - Batch Writer")
+@Import(ArticleImportBatchWriter.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:import;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@DataJpaTest
+class ArticleImportBatchWriterTest {
+
+    @Autowired private ArticleImportBatchWriter articleImportBatchWriter;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private CommentClosureRepository commentClosureRepository;
+    @Autowired private HashtagRepository hashtagRepository;
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockBean private ArticleSearchIndex articleSearchIndex;
+    @MockBean private CommentSearchIndex commentSearchIndex;
+    @MockBean private ArticleSearchCache articleSearchCache;
+    @MockBean private SuggestionIndex suggestionIndex;
+
+    @DisplayName("Write batch -> insert articles, hashtags, comments and the checkpoint, skipping invalid records")
+    @Test
+    void writeBatchInsertRowsAndCheckpoint() {
+
+        long previousArticleCount = articleRepository.count();
+        long previousHashtagCount = hashtagRepository.count();
+        long previousPinkCount = hashtagRepository.findByHashtagName("pink").orElseThrow().getArticleCount();
+        List<ArticleImportRecord> records = List.of(
+                ArticleImportRecord.of("kim", "imported", "about #pink and #imported", LocalDateTime.of(2024, 1, 1, 0, 0), List.of(
+                        ArticleImportRecord.CommentRecord.of("kim2", "first", null),
+                        ArticleImportRecord.CommentRecord.of("nobody", "unknown author", null)
+                )),
+                ArticleImportRecord.of("kim2", "also #imported", "#imported again", null, List.of()),
+                ArticleImportRecord.of("nobody", "unknown author", "content", null, List.of())
+        );
+
+        ImportCheckpoint checkpoint = articleImportBatchWriter.write("job-1", records);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(checkpoint)
+                .hasFieldOrPropertyWithValue("position", 3L)
+                .hasFieldOrPropertyWithValue("importedArticles", 2L)
+                .hasFieldOrPropertyWithValue("importedComments", 1L)
+                .hasFieldOrPropertyWithValue("skippedRecords", 1L);
+        assertThat(articleRepository.count()).isEqualTo(previousArticleCount + 2);
+        assertThat(hashtagRepository.count()).isEqualTo(previousHashtagCount + 1);
+
+        Article imported = articleRepository.findAll().stream()
+                .filter(article -> article.getTitle().equals("imported"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(imported.getCommentCount()).isEqualTo(1);
+        assertThat(imported.getCreatedBy()).isEqualTo("kim");
+        assertThat(imported.getHashtags()).extracting("hashtagName").containsExactlyInAnyOrder("pink", "imported");
+        assertThat(hashtagRepository.findByHashtagName("pink").orElseThrow().getArticleCount()).isEqualTo(previousPinkCount + 1);
+        assertThat(hashtagRepository.findByHashtagName("imported").orElseThrow().getArticleCount()).isEqualTo(2);
+
+        Long commentId = commentRepository.findByArticle_IdAndParentCommentIdIsNull(imported.getId(), Pageable.unpaged())
+                .getContent().get(0).getId();
+        assertThat(commentClosureRepository.findSubtreeIds(commentId)).containsExactly(commentId);
+        then(articleSearchCache).should().evictHashtags(Set.of("pink", "imported"));
+        then(suggestionIndex).should().addHashtags(Map.of("pink", 1, "imported", 2));
+    }
+
+    @DisplayName("Write batch with a hashtag created elsewhere -> reuse its id instead of failing on the unique name")
+    @Test
+    void writeBatchReuseHashtagCreatedElsewhere() {
+
+        Long existingId = 42L;
+        jdbcTemplate.update("""
+                insert into hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by)
+                values (?, 'concurrent', now(), 'other-node', now(), 'other-node')
+                """, existingId);
+        List<ArticleImportRecord> records = List.of(
+                ArticleImportRecord.of("kim", "first", "#concurrent", null, List.of()),
+                ArticleImportRecord.of("kim", "second", "#concurrent #brandnew", null, List.of())
+        );
+
+        articleImportBatchWriter.write("job-2", records);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(hashtagRepository.findByHashtagName("concurrent").orElseThrow())
+                .hasFieldOrPropertyWithValue("id", existingId)
+                .hasFieldOrPropertyWithValue("articleCount", 2L);
+        assertThat(hashtagRepository.findByHashtagName("brandnew").orElseThrow().getArticleCount()).isEqualTo(1);
+    }
+}
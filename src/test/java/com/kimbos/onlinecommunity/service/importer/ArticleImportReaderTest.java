@@ -0,0 +1,98 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bulk Import - Readers")
+class ArticleImportReaderTest {
+
+    @DisplayName("Read CSV -> group comment rows under the article before them, keeping quoted line breaks")
+    @Test
+    void readCsvGroupCommentsUnderArticle() throws IOException {
+
+        String csv = """
+                type,user_id,title,content,created_at\r
+                article,kim,"Hello, world","first line
+                second ""quoted"" line #java",2024-01-02 03:04:05\r
+                comment,kim2,,nice,\r
+                comment,kim,,thanks,\r
+                article,kim2,Second,#spring,
+                """;
+
+        try (ArticleImportReader reader = new CsvArticleImportReader(stream(csv))) {
+            ArticleImportRecord first = reader.next();
+            ArticleImportRecord second = reader.next();
+
+            assertThat(first.title()).isEqualTo("Hello, world");
+            assertThat(first.content()).isEqualTo("first line\nsecond \"quoted\" line #java");
+            assertThat(first.createdAt()).isEqualTo(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+            assertThat(first.comments()).extracting(ArticleImportRecord.CommentRecord::content).containsExactly("nice", "thanks");
+            assertThat(second.userId()).isEqualTo("kim2");
+            assertThat(second.createdAt()).isNull();
+            assertThat(second.comments()).isEmpty();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @DisplayName("Read CSV with comment before any article -> throw exception")
+    @Test
+    void readCsvWithOrphanCommentThrowException() {
+
+        String csv = "type,user_id,title,content\ncomment,kim,,orphan\n";
+
+        assertThatThrownBy(() -> new CsvArticleImportReader(stream(csv)).next())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("Read NDJSON -> one record per non-blank line")
+    @Test
+    void readNdjsonOneRecordPerLine() throws IOException {
+
+        String ndjson = """
+                {"userId":"kim","title":"t1","content":"c1","createdAt":"2024-01-02T03:04:05","comments":[{"userId":"kim2","content":"hi"}]}
+
+                {"userId":"kim2","title":"t2","content":"c2"}
+                """;
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        try (ArticleImportReader reader = new NdjsonArticleImportReader(stream(ndjson), objectMapper)) {
+            ArticleImportRecord first = reader.next();
+            ArticleImportRecord second = reader.next();
+
+            assertThat(first.createdAt()).isEqualTo(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+            assertThat(first.comments()).extracting(ArticleImportRecord.CommentRecord::userId).containsExactly("kim2");
+            assertThat(second.comments()).isEmpty();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @DisplayName("Read malformed NDJSON line -> throw exception with the line number")
+    @Test
+    void readMalformedNdjsonThrowExceptionWithLine() {
+
+        String ndjson = "{\"userId\":\"kim\"}\n{broken\n";
+        ArticleImportReader reader = new NdjsonArticleImportReader(stream(ndjson), new ObjectMapper());
+
+        assertThatThrownBy(() -> {
+            reader.next();
+            reader.next();
+        })
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line: 2");
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package com.kimbos.onlinecommunity.service.importer;
+
+import com.kimbos.onlinecommunity.domain.ImportCheckpoint;
+import com.kimbos.onlinecommunity.dto.ArticleImportRecord;
+import com.kimbos.onlinecommunity.dto.response.ArticleImportResponse;
+import com.kimbos.onlinecommunity.repository.ImportCheckpointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("Bulk Import - Importer")
+@ExtendWith(MockitoExtension.class)
+class ArticleImporterTest {
+
+    @InjectMocks private ArticleImporter articleImporter;
+
+    @Mock private ArticleImportBatchWriter articleImportBatchWriter;
+    @Mock private ImportCheckpointRepository importCheckpointRepository;
+
+    @DisplayName("Import records -> write them in batches and report this run")
+    @Test
+    void importRecordsWriteInBatches() throws IOException {
+
+        int total = ArticleImporter.BATCH_SIZE + 10;
+        List<Integer> batchSizes = new ArrayList<>();
+        ImportCheckpoint checkpoint = ImportCheckpoint.of("job");
+        given(importCheckpointRepository.findById("job")).willReturn(Optional.empty());
+        given(articleImportBatchWriter.write(eq("job"), anyList())).willAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(1);
+            batchSizes.add(batch.size());
+            checkpoint.advance(batch.size(), batch.size(), 0, 0);
+            return checkpoint;
+        });
+
+        ArticleImportResponse response = articleImporter.importArticles("job", reader(total));
+
+        assertThat(batchSizes).containsExactly(ArticleImporter.BATCH_SIZE, 10);
+        assertThat(response.resumedFrom()).isZero();
+        assertThat(response.records()).isEqualTo(total);
+        assertThat(response.importedArticles()).isEqualTo(total);
+    }
+
+    @DisplayName("Import with a checkpoint -> skip the records it already covers")
+    @Test
+    void importWithCheckpointSkipCoveredRecords() throws IOException {
+
+        ImportCheckpoint checkpoint = ImportCheckpoint.of("job");
+        checkpoint.advance(7, 6, 20, 1);
+        given(importCheckpointRepository.findById("job")).willReturn(Optional.of(checkpoint));
+        List<String> writtenTitles = new ArrayList<>();
+        given(articleImportBatchWriter.write(eq("job"), anyList())).willAnswer(invocation -> {
+            List<ArticleImportRecord> batch = invocation.getArgument(1);
+            batch.forEach(record -> writtenTitles.add(record.title()));
+            ImportCheckpoint next = ImportCheckpoint.of("job");
+            next.advance(10, 9, 20, 1);
+            return next;
+        });
+
+        ArticleImportResponse response = articleImporter.importArticles("job", reader(10));
+
+        assertThat(writtenTitles).containsExactly("title7", "title8", "title9");
+        assertThat(response.resumedFrom()).isEqualTo(7);
+        assertThat(response.records()).isEqualTo(3);
+        assertThat(response.importedArticles()).isEqualTo(3);
+        assertThat(response.importedComments()).isZero();
+    }
+
+    private static ArticleImportReader reader(int records) {
+        Iterator<ArticleImportRecord> iterator = IntStream.range(0, records)
+                .mapToObj(i -> ArticleImportRecord.of("kim", "title" + i, "content", null, List.of()))
+                .iterator();
+
+        return new ArticleImportReader() {
+            @Override
+            public ArticleImportRecord next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import com.kimbos.onlinecommunity.domain.enums.SearchType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Search Engine - Article Search Cache")
+class ArticleSearchCacheTest {
+
+    private final ArticleSearchCache cache = new ArticleSearchCache(100, Duration.ofMinutes(1));
+    private final Pageable pageable = Pageable.ofSize(20);
+
+    @DisplayName("Put id page -> return it for the same search")
+    @Test
+    void putIdPageReturnItForSameSearch() {
+
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.HASHTAG, "java", pageable);
+        Page<Long> articleIds = new PageImpl<>(List.of(2L, 1L), pageable, 2);
+
+        cache.put(key, articleIds, cache.stamp());
+
+        assertThat(cache.get(key)).contains(articleIds);
+        assertThat(cache.get(ArticleSearchCache.Key.of(SearchType.HASHTAG, "java", pageable.next()))).isEmpty();
+    }
+
+    @DisplayName("Evict hashtag -> drop only searches of that hashtag")
+    @Test
+    void evictHashtagDropOnlySearchesOfThatHashtag() {
+
+        ArticleSearchCache.Key javaKey = ArticleSearchCache.Key.of(SearchType.HASHTAG, "java spring", pageable);
+        ArticleSearchCache.Key kotlinKey = ArticleSearchCache.Key.of(SearchType.HASHTAG, "kotlin", pageable);
+        ArticleSearchCache.Key authorKey = ArticleSearchCache.Key.of(SearchType.NICKNAME, "kim", pageable);
+        cache.put(javaKey, Page.empty(pageable), cache.stamp());
+        cache.put(kotlinKey, Page.empty(pageable), cache.stamp());
+        cache.put(authorKey, Page.empty(pageable), cache.stamp());
+
+        cache.evictHashtags(Set.of("spring"));
+
+        assertThat(cache.get(javaKey)).isEmpty();
+        assertThat(cache.get(kotlinKey)).isPresent();
+        assertThat(cache.get(authorKey)).isPresent();
+
+        cache.evictAuthorSearches();
+
+        assertThat(cache.get(authorKey)).isEmpty();
+        assertThat(cache.get(kotlinKey)).isPresent();
+    }
+
+    @DisplayName("Put page loaded before an eviction -> do not store it")
+    @Test
+    void putPageLoadedBeforeEvictionDoNotStoreIt() {
+
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.HASHTAG, "java", pageable);
+        long stamp = cache.stamp();
+
+        cache.evictHashtags(Set.of("kotlin"));
+        cache.put(key, Page.empty(pageable), stamp);
+
+        assertThat(cache.get(key)).isEmpty();
+    }
+
+    @DisplayName("Search hashtag keyword with repeated tags -> still cacheable")
+    @Test
+    void searchHashtagKeywordWithRepeatedTagsStillCacheable() {
+
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.HASHTAG, "java java", pageable);
+        cache.put(key, Page.empty(pageable), cache.stamp());
+
+        cache.evictHashtags(Set.of("java"));
+
+        assertThat(cache.get(key)).isEmpty();
+    }
+
+    @DisplayName("Bind to registry -> publish hit and miss counts")
+    @Test
+    void bindToRegistryPublishHitAndMissCounts() {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        ArticleSearchCache.Key key = ArticleSearchCache.Key.of(SearchType.HASHTAG, "java", pageable);
+
+        cache.get(key);
+        cache.put(key, Page.empty(pageable), cache.stamp());
+        cache.get(key);
+
+        assertThat(registry.get("cache.gets").tag("cache", "articleSearch").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "articleSearch").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Search Engine - Completion Trie")
+class CompletionTrieTest {
+
+    private final CompletionTrie trie = new CompletionTrie(3);
+
+    @DisplayName("Complete prefix -> return heaviest terms first, then alphabetical")
+    @Test
+    void completePrefixReturnHeaviestTermsFirst() {
+
+        trie.add("java", 3);
+        trie.add("javascript", 5);
+        trie.add("jpa", 9);
+        trie.add("jar", 3);
+        trie.add("kotlin", 7);
+
+        assertThat(trie.complete("ja", 10)).containsExactly(
+                new CompletionTrie.Completion("javascript", 5),
+                new CompletionTrie.Completion("jar", 3),
+                new CompletionTrie.Completion("java", 3)
+        );
+        assertThat(trie.complete("j", 2)).extracting(CompletionTrie.Completion::term).containsExactly("jpa", "javascript");
+    }
+
+    @DisplayName("Complete prefix ending inside an edge -> return the terms below the edge")
+    @Test
+    void completePrefixInsideEdgeReturnTermsBelow() {
+
+        trie.add("spring", 1);
+        trie.add("springboot", 2);
+
+        assertThat(trie.complete("spr", 10)).extracting(CompletionTrie.Completion::term).containsExactly("springboot", "spring");
+        assertThat(trie.complete("springb", 10)).extracting(CompletionTrie.Completion::term).containsExactly("springboot");
+        assertThat(trie.complete("sprint", 10)).isEmpty();
+        assertThat(trie.complete("springboots", 10)).isEmpty();
+    }
+
+    @DisplayName("Weight drops to zero -> remove the term and keep its neighbours")
+    @Test
+    void weightDropsToZeroRemoveTerm() {
+
+        trie.add("java", 2);
+        trie.add("javascript", 1);
+        trie.add("jpa", 1);
+
+        trie.add("java", -1);
+        assertThat(trie.weightOf("java")).isEqualTo(1);
+        trie.add("java", -1);
+        trie.add("unknown", -1);
+
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.weightOf("java")).isZero();
+        assertThat(trie.complete("jav", 10)).extracting(CompletionTrie.Completion::term).containsExactly("javascript");
+        assertThat(trie.complete("j", 10)).extracting(CompletionTrie.Completion::term).containsExactly("javascript", "jpa");
+    }
+
+    @DisplayName("Random writes -> match completions computed by brute force")
+    @Test
+    void randomWritesMatchBruteForce() {
+
+        Random random = new Random(42);
+        Map<String, Long> weights = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            String term = randomTerm(random);
+            long delta = random.nextInt(4) == 0 ? -random.nextInt(3) - 1 : random.nextInt(3) + 1;
+            trie.add(term, delta);
+            long weight = weights.getOrDefault(term, 0L);
+            if (weight > 0 || delta > 0) {
+                weight += delta;
+                if (weight > 0) {
+                    weights.put(term, weight);
+                } else {
+                    weights.remove(term);
+                }
+            }
+        }
+
+        assertThat(trie.size()).isEqualTo(weights.size());
+        for (String prefix : List.of("", "a", "ab", "ba", "abc", "cab", "ccc")) {
+            List<CompletionTrie.Completion> expected = weights.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .map(entry -> new CompletionTrie.Completion(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(CompletionTrie.Completion::weight).reversed()
+                            .thenComparing(CompletionTrie.Completion::term))
+                    .limit(3)
+                    .toList();
+            assertThat(trie.complete(prefix, 3)).as("prefix '%s'", prefix).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("No completions kept -> throw exception")
+    @Test
+    void noCompletionsKeptThrowException() {
+
+        assertThatThrownBy(() -> new CompletionTrie(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String randomTerm(Random random) {
+        StringBuilder term = new StringBuilder();
+        int length = random.nextInt(5) + 1;
+        for (int i = 0; i < length; i++) {
+            term.append((char) ('a' + random.nextInt(3)));
+        }
+        return term.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Search Engine - Inverted Index")
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex(new NgramTokenizer());
+
+    @DisplayName("Search keyword -> return only documents containing every term")
+    @Test
+    void searchKeywordReturnDocumentsContainingEveryTerm() {
+
+        index.add(1L, "Spring Boot with JPA");
+        index.add(2L, "Spring security");
+        index.add(3L, "boot camp");
+
+        List<InvertedIndex.Hit> hits = index.search("spring boot");
+
+        assertThat(hits).extracting(InvertedIndex.Hit::docId).containsExactly(1L);
+    }
+
+    @DisplayName("Search keyword -> rank documents with higher term frequency first")
+    @Test
+    void searchKeywordRankHigherTermFrequencyFirst() {
+
+        index.add(1L, "java");
+        index.add(2L, "java java java");
+        index.add(3L, "kotlin");
+
+        List<InvertedIndex.Hit> hits = index.search("JAVA");
+
+        assertThat(hits).extracting(InvertedIndex.Hit::docId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("Re-index and remove documents -> search reflects latest contents")
+    @Test
+    void reindexAndRemoveDocumentsSearchReflectsLatestContents() {
+
+        index.add(1L, "old title");
+        index.add(2L, "another title");
+        index.add(1L, "new title");
+        index.remove(2L);
+
+        assertThat(index.search("old")).isEmpty();
+        assertThat(index.search("title")).extracting(InvertedIndex.Hit::docId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @DisplayName("Documents added out of id order -> intersection still finds them")
+    @Test
+    void documentsAddedOutOfOrderIntersectionFindsThem() {
+
+        for (long id = 100; id > 0; id--) {
+            index.add(id, id % 3 == 0 ? "fizz buzz" : "fizz");
+        }
+
+        List<InvertedIndex.Hit> hits = index.search("buzz fizz");
+
+        assertThat(hits).hasSize(33).allMatch(hit -> hit.docId() % 3 == 0);
+    }
+
+    @DisplayName("Search one page -> same order as full search with total hit count")
+    @Test
+    void searchOnePageReturnSameOrderAsFullSearch() {
+
+        for (long id = 1; id <= 50; id++) {
+            index.add(id, "page " + "page ".repeat((int) (id % 7)));
+        }
+        List<InvertedIndex.Hit> all = index.search("page");
+
+        InvertedIndex.SearchResult secondPage = index.search("page", 10, 10);
+
+        assertThat(secondPage.totalHits()).isEqualTo(50);
+        assertThat(secondPage.hits()).containsExactlyElementsOf(all.subList(10, 20));
+        assertThat(index.search("page", 60, 10).hits()).isEmpty();
+    }
+
+    @DisplayName("Search blank keyword -> return nothing")
+    @Test
+    void searchBlankKeywordReturnNothing() {
+
+        index.add(1L, "content");
+
+        assertThat(index.search("  ")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Search Engine - Korean N-gram Tokenizer")
+class NgramTokenizerTest {
+
+    private final NgramTokenizer tokenizer = new NgramTokenizer();
+
+    @DisplayName("Tokenize mixed text -> Hangul prefix unigrams, bigrams and trigrams with lower-cased Latin words")
+    @Test
+    void tokenizeMixedTextReturnNgramsAndWords() {
+
+        List<String> tokens = tokenizer.tokenize("Spring부트 입문, JPA 책");
+
+        assertThat(tokens).containsExactlyInAnyOrder(
+                "spring", "부", "부트",
+                "입", "입문",
+                "jpa", "책"
+        );
+        assertThat(tokenizer.tokenize("스프링")).containsExactlyInAnyOrder("스", "스프", "프링", "스프링");
+    }
+
+    @DisplayName("Tokenize Hangul keyword -> trigrams only, falling back to shorter grams")
+    @Test
+    void tokenizeHangulKeywordReturnTrigrams() {
+
+        assertThat(tokenizer.tokenizeQuery("스프링부트")).containsExactly("스프링", "프링부", "링부트");
+        assertThat(tokenizer.tokenizeQuery("부트")).containsExactly("부트");
+        assertThat(tokenizer.tokenizeQuery("책")).containsExactly("책");
+        assertThat(tokenizer.tokenizeQuery("  ")).isEmpty();
+    }
+
+    @DisplayName("Phrases of keyword -> only Hangul runs whose trigrams need a substring check")
+    @Test
+    void phrasesOfKeywordReturnLongHangulRuns() {
+
+        assertThat(tokenizer.phrasesOf("스프링부트 JPA 책 게시")).containsExactly("스프링부트");
+        assertThat(tokenizer.phrasesOf(null)).isEmpty();
+    }
+
+    @DisplayName("Search Korean substring -> match inside longer words with particles")
+    @Test
+    void searchKoreanSubstringMatchInsideLongerWords() {
+
+        InvertedIndex index = new InvertedIndex(tokenizer);
+        index.add(1L, "스프링부트로 게시판을 만들었습니다");
+        index.add(2L, "자바스크립트는 어렵다");
+        index.add(3L, "게시글 작성 방법");
+
+        assertThat(index.search("게시판")).extracting(InvertedIndex.Hit::docId).containsExactly(1L);
+        assertThat(index.search("게시")).extracting(InvertedIndex.Hit::docId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("스크립트")).extracting(InvertedIndex.Hit::docId).containsExactly(2L);
+        assertThat(index.search("부트 게시판")).extracting(InvertedIndex.Hit::docId).containsExactly(1L);
+    }
+
+    @DisplayName("Positioned terms -> Hangul trigrams with their offsets in the text")
+    @Test
+    void positionedTermsReturnTrigramOffsets() {
+
+        assertThat(tokenizer.positionedTerms("JPA 스프링부트"))
+                .containsExactly(
+                        new Tokenizer.PositionedTerm("스프링", 4),
+                        new Tokenizer.PositionedTerm("프링부", 5),
+                        new Tokenizer.PositionedTerm("링부트", 6)
+                );
+    }
+
+    @DisplayName("Search one syllable -> match words starting with it")
+    @Test
+    void searchOneSyllableMatchWordsStartingWithIt() {
+
+        InvertedIndex index = new InvertedIndex(tokenizer);
+        index.add(1L, "책상 정리");
+        index.add(2L, "공책");
+        index.add(3L, "책");
+
+        assertThat(index.search("책")).extracting(InvertedIndex.Hit::docId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @DisplayName("Search trigrams found apart -> exclude documents without the whole keyword")
+    @Test
+    void searchTrigramsFoundApartExcludeDocuments() {
+
+        InvertedIndex index = new InvertedIndex(tokenizer);
+        index.add(1L, "가나다라 그리고 나다라마");
+        index.add(2L, "가나다라마");
+        index.add(3L, "가나다라 나다라마, 가나다라마");
+
+        assertThat(index.search("가나다라마")).extracting(InvertedIndex.Hit::docId).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("가나다라마", 0, 10).totalHits()).isEqualTo(2);
+
+        index.remove(2L);
+        index.add(1L, "가나다라마 다시");
+        assertThat(index.search("가나다라마")).extracting(InvertedIndex.Hit::docId).containsExactlyInAnyOrder(1L, 3L);
+    }
+}
@@ -0,0 +1,62 @@
+package com.kimbos.onlinecommunity.service.search;
+
+import com.kimbos.onlinecommunity.dto.HashtagIndexDto;
+import com.kimbos.onlinecommunity.dto.NicknameIndexDto;
+import com.kimbos.onlinecommunity.dto.SuggestionDto;
+import com.kimbos.onlinecommunity.repository.HashtagRepository;
+import com.kimbos.onlinecommunity.repository.UserAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("Search Engine - Suggestion Index")
+@ExtendWith(MockitoExtension.class)
+class SuggestionIndexTest {
+
+    @InjectMocks private SuggestionIndex suggestionIndex;
+
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+
+    @DisplayName("Suggest hashtags typed with '#' or in another case -> same suggestions")
+    @Test
+    void suggestHashtagsIgnoreHashAndCase() {
+
+        suggestionIndex.addHashtags(Set.of("Java", "javascript"), 1);
+
+        assertThat(suggestionIndex.suggestHashtags(" #JA", 10))
+                .containsExactly(SuggestionDto.of("java", 1), SuggestionDto.of("javascript", 1));
+        assertThat(suggestionIndex.suggestHashtags("#", 10)).isEmpty();
+    }
+
+    @DisplayName("Rebuild -> replace the suggestions, keeping changes made while the rows were read")
+    @Test
+    void rebuildReplaceSuggestionsKeepConcurrentChanges() {
+
+        suggestionIndex.addHashtags(Set.of("stale"), 1);
+        given(hashtagRepository.findIndexRowsAfter(eq(Long.MIN_VALUE), any(Pageable.class))).willAnswer(invocation -> {
+            suggestionIndex.addHashtags(Set.of("spring"), 1);
+            return List.of(HashtagIndexDto.of(1L, "java", 3));
+        });
+        given(userAccountRepository.findNicknamesAfter(eq(""), any(Pageable.class))).willReturn(List.of(NicknameIndexDto.of("kim", "kim")));
+
+        suggestionIndex.rebuild();
+
+        assertThat(suggestionIndex.suggestHashtags("st", 10)).isEmpty();
+        assertThat(suggestionIndex.suggestHashtags("j", 10)).containsExactly(SuggestionDto.of("java", 3));
+        assertThat(suggestionIndex.suggestHashtags("s", 10)).containsExactly(SuggestionDto.of("spring", 1));
+        assertThat(suggestionIndex.suggestNicknames(" ki ", 10)).containsExactly(SuggestionDto.of("kim", 1));
+    }
+}
@@ -0,0 +1,50 @@
+package com.kimbos.onlinecommunity.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Utility - Count-Min Sketch")
+class CountMinSketchTest {
+
+    @DisplayName("Add items -> estimate never undercounts, and overcounts little")
+    @Test
+    void addItemsEstimateNeverUndercounts() {
+
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        for (int i = 0; i < 2_000; i++) {
+            sketch.add("tag" + i, i % 10 + 1);
+        }
+        sketch.add("java", 500);
+
+        long total = 2_000 * 55 / 10 + 500;
+        for (int i = 0; i < 2_000; i++) {
+            long estimate = sketch.estimate("tag" + i);
+            assertThat(estimate).isGreaterThanOrEqualTo(i % 10 + 1);
+            assertThat(estimate).isLessThanOrEqualTo(i % 10 + 1 + total * 3 / 1024);
+        }
+        assertThat(sketch.estimate("java")).isBetween(500L, 520L);
+    }
+
+    @DisplayName("Clear -> every estimate is zero")
+    @Test
+    void clearEveryEstimateZero() {
+
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        sketch.add("java", 3);
+
+        sketch.clear();
+
+        assertThat(sketch.estimate("java")).isZero();
+    }
+
+    @DisplayName("No counters -> throw exception")
+    @Test
+    void noCountersThrowException() {
+
+        assertThatThrownBy(() -> new CountMinSketch(0, 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
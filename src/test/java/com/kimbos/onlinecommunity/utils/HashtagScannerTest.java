@@ -0,0 +1,65 @@
+package com.kimbos.onlinecommunity.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Utility - Hashtag Scanner")
+class HashtagScannerTest {
+
+    private static final Pattern HASHTAG = Pattern.compile("#[\\w가-힣]+");
+    private static final String ALPHABET = "##  ab_Z09가힣각ㄱé日-.,\t\n";
+
+    @DisplayName("Scan random text -> same names as the regular expression")
+    @Test
+    void scanRandomTextReturnSameNamesAsRegex() {
+
+        Random random = new Random(42);
+        for (int run = 0; run < 10_000; run++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+
+            assertThat(HashtagScanner.scan(text.toString()))
+                    .as("text: [%s]", text)
+                    .isEqualTo(parseWithRegex(text.toString()));
+        }
+    }
+
+    @DisplayName("Scan text without hashtags -> empty set")
+    @Test
+    void scanTextWithoutHashtagsReturnEmptySet() {
+
+        assertThat(HashtagScanner.scan(null)).isEmpty();
+        assertThat(HashtagScanner.scan("no tags # here ㄱ#é")).isEmpty();
+    }
+
+    private static Set<String> parseWithRegex(String content) {
+        Matcher matcher = HASHTAG.matcher(content.strip());
+        Set<String> result = new HashSet<>();
+        while (matcher.find()) {
+            result.add(matcher.group().replace("#", ""));
+        }
+        return Set.copyOf(result);
+    }
+
+    @DisplayName("Normalize typed hashtag name -> drop surrounding whitespace and leading '#'")
+    @Test
+    void normalizeTypedHashtagNameDropWhitespaceAndHash() {
+
+        assertThat(HashtagScanner.normalize(" #java ")).isEqualTo("java");
+        assertThat(HashtagScanner.normalize("##스프링")).isEqualTo("스프링");
+        assertThat(HashtagScanner.normalize("java#spring")).isEqualTo("java#spring");
+        assertThat(HashtagScanner.normalize(" # ")).isEmpty();
+        assertThat(HashtagScanner.normalize(null)).isEmpty();
+    }
+}
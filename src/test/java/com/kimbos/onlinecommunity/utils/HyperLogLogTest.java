@@ -0,0 +1,95 @@
+package com.kimbos.onlinecommunity.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Utility - HyperLogLog")
+class HyperLogLogTest {
+
+    @DisplayName("Add distinct values -> estimate within a few percent")
+    @ParameterizedTest(name = "[{index}] {0} distinct values")
+    @ValueSource(ints = {10, 1_000, 100_000})
+    void addDistinctValuesEstimateWithinFewPercent(int count) {
+
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < count; i++) {
+            sketch.add("user" + i);
+            sketch.add("user" + i);
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(count, within(Math.max(1, count * 0.05)));
+    }
+
+    @DisplayName("Merge sketches -> estimate the union, and merging again changes nothing")
+    @Test
+    void mergeSketchesEstimateUnion() {
+
+        HyperLogLog java = new HyperLogLog();
+        HyperLogLog spring = new HyperLogLog();
+        for (int i = 0; i < 6_000; i++) {
+            java.add("user" + i);
+            spring.add("user" + (i + 4_000));
+        }
+
+        HyperLogLog union = HyperLogLog.fromBytes(java.toBytes());
+        union.merge(spring);
+        long estimate = union.estimate();
+        union.merge(spring);
+
+        assertThat((double) estimate).isCloseTo(10_000, within(500.0));
+        assertThat(union.estimate()).isEqualTo(estimate);
+    }
+
+    @DisplayName("Bytes round trip -> same estimate, and a repeated value leaves the version")
+    @Test
+    void bytesRoundTripSameEstimate() {
+
+        HyperLogLog sketch = new HyperLogLog();
+        sketch.add("kim");
+        long version = sketch.version();
+        sketch.add("kim");
+
+        assertThat(sketch.version()).isEqualTo(version).isPositive();
+        assertThat(HyperLogLog.fromBytes(sketch.toBytes()).estimate()).isEqualTo(sketch.estimate()).isEqualTo(1);
+        assertThat(sketch.toBytes()).hasSize(HyperLogLog.REGISTERS);
+    }
+
+    @DisplayName("Add past the sparse limit -> switch to dense registers and keep the estimate")
+    @Test
+    void addPastSparseLimitSwitchToDense() {
+
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.add("user" + i);
+        }
+        byte[] sparseBytes = sketch.toBytes();
+        long sparseEstimate = sketch.estimate();
+        boolean sparseAtFirst = sketch.isSparse();
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add("user" + i);
+        }
+
+        assertThat(sparseAtFirst).isTrue();
+        assertThat(sketch.isSparse()).isFalse();
+        assertThat((double) sparseEstimate).isCloseTo(100, within(5.0));
+        assertThat((double) sketch.estimate()).isCloseTo(1_000, within(50.0));
+        assertThat(sketch.toBytes()).satisfies(bytes -> {
+            for (int i = 0; i < HyperLogLog.REGISTERS; i++) {
+                assertThat(bytes[i]).isGreaterThanOrEqualTo(sparseBytes[i]);
+            }
+        });
+    }
+
+    @DisplayName("Bytes of another length -> throw exception")
+    @Test
+    void bytesOfAnotherLengthThrowException() {
+
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[16])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.kimbos.onlinecommunity.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Utility - Snowflake")
+class SnowflakeTest {
+
+    private static final long NOW = Snowflake.EPOCH.toEpochMilli() + 1_000_000L;
+
+    @DisplayName("Next id -> carry time, node id and sequence")
+    @Test
+    void nextIdCarryTimeNodeAndSequence() {
+
+        Snowflake snowflake = new Snowflake(513, () -> NOW);
+
+        long first = snowflake.nextId();
+        long second = snowflake.nextId();
+
+        assertThat(Snowflake.timestampOf(first).toEpochMilli()).isEqualTo(NOW);
+        assertThat(Snowflake.nodeIdOf(first)).isEqualTo(513);
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @DisplayName("Exhaust sequence or step clock back -> ids keep growing")
+    @Test
+    void exhaustSequenceOrStepClockBackIdsKeepGrowing() {
+
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(1, clock::get);
+
+        long last = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-10);
+            }
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+    }
+
+    @DisplayName("Generate from many threads -> every id is unique")
+    @Test
+    void generateFromManyThreadsEveryIdUnique() throws InterruptedException {
+
+        Snowflake snowflake = new Snowflake(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(snowflake.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(160_000);
+    }
+
+    @DisplayName("Node id out of range -> throw exception")
+    @Test
+    void nodeIdOutOfRangeThrowException() {
+
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}